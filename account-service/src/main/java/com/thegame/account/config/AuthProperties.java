@@ -0,0 +1,42 @@
+package com.thegame.account.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for login and token issuing.
+ */
+@Data
+@ConfigurationProperties(prefix = "account.auth")
+public class AuthProperties {
+
+    /**
+     * Issuer (iss claim) of access tokens; game-service only accepts tokens from this issuer.
+     */
+    private String issuer = "thegame-account-service";
+
+    /**
+     * Lifetime of a signed access token.
+     */
+    private long accessTokenTtlSeconds = 900;
+
+    /**
+     * Lifetime of a refresh token. Each refresh rotates it.
+     */
+    private long refreshTokenTtlSeconds = 30L * 24 * 60 * 60;
+
+    /**
+     * PEM file (PKCS#8) with the RSA private key used to sign access tokens.
+     * When not set, a key pair is generated on startup: tokens then do not
+     * survive a restart and every instance signs with its own key.
+     */
+    private String signingKeyLocation;
+
+    /**
+     * Key id (kid) published in the JWK set and put in every token header.
+     * When not set, the RFC 7638 thumbprint of the public key is used, so a
+     * different key always gets a different kid. Only set it together with
+     * signingKeyLocation, and change it whenever the key changes.
+     */
+    private String signingKeyId;
+}
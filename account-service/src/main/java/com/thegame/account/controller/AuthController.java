@@ -0,0 +1,71 @@
+package com.thegame.account.controller;
+
+import com.thegame.account.dto.LoginRequestDto;
+import com.thegame.account.dto.RefreshTokenRequestDto;
+import com.thegame.account.service.AccessTokenIssuer;
+import com.thegame.account.service.AuthService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST controller for login and token management.
+ * Access tokens are verified by other services against the published JWK set.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthService authService;
+    private final AccessTokenIssuer accessTokenIssuer;
+
+    public AuthController(AuthService authService, AccessTokenIssuer accessTokenIssuer) {
+        this.authService = authService;
+        this.accessTokenIssuer = accessTokenIssuer;
+    }
+
+    /**
+     * Log in with username and password
+     */
+    @PostMapping("/login")
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginRequestDto) {
+        try {
+            return ResponseEntity.ok(authService.login(loginRequestDto.getUsername(), loginRequestDto.getPassword()));
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Exchange a refresh token for new tokens
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequestDto refreshTokenRequestDto) {
+        try {
+            return ResponseEntity.ok(authService.refresh(refreshTokenRequestDto.getRefreshToken()));
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Log out (revoke the refresh token)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshTokenRequestDto refreshTokenRequestDto) {
+        authService.logout(refreshTokenRequestDto.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get the public keys for verifying access tokens
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok(accessTokenIssuer.getPublicJwkSet());
+    }
+}
@@ -0,0 +1,45 @@
+package com.thegame.account.controller;
+
+import com.thegame.account.dto.UserEventDto;
+import com.thegame.account.dto.UserEventPageDto;
+import com.thegame.account.service.UserEventOutbox;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Internal REST controller exposing the user_events outbox to other services.
+ * Consumers poll with the offset (event id) of the last event they applied.
+ */
+@RestController
+@RequestMapping("/api/internal/user-events")
+public class UserEventController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final UserEventOutbox userEventOutbox;
+
+    public UserEventController(UserEventOutbox userEventOutbox) {
+        this.userEventOutbox = userEventOutbox;
+    }
+
+    /**
+     * Get events after the given offset
+     */
+    @GetMapping
+    public ResponseEntity<?> getEvents(@RequestParam(defaultValue = "0") long after,
+                                       @RequestParam(defaultValue = "500") int limit) {
+        if (after < 0 || limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                    "after must be >= 0 and limit between 1 and " + MAX_LIMIT));
+        }
+        List<UserEventDto> events = userEventOutbox.getEventsAfter(after, limit).stream()
+                .map(UserEventDto::new)
+                .toList();
+        // Read after the page so the latest id is never behind it
+        long latestId = userEventOutbox.getLatestId();
+        return ResponseEntity.ok(new UserEventPageDto(events, latestId));
+    }
+}
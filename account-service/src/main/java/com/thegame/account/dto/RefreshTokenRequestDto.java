@@ -0,0 +1,16 @@
+package com.thegame.account.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO carrying a refresh token (refresh and logout).
+ */
+@Data
+@NoArgsConstructor
+public class RefreshTokenRequestDto {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
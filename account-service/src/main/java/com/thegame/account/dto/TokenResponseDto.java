@@ -0,0 +1,19 @@
+package com.thegame.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for login and refresh.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponseDto {
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+    private String refreshToken;
+    private long refreshExpiresIn;
+}
@@ -0,0 +1,32 @@
+package com.thegame.account.dto;
+
+import com.thegame.account.entity.UserEvent;
+import com.thegame.account.entity.UserEventType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for one user_events outbox entry.
+ */
+@Data
+@NoArgsConstructor
+public class UserEventDto {
+    private Long id;
+    private UUID userId;
+    private UserEventType eventType;
+    private String username;
+    private Boolean isActive;
+    private LocalDateTime occurredAt;
+
+    public UserEventDto(UserEvent event) {
+        this.id = event.getId();
+        this.userId = event.getUserId();
+        this.eventType = event.getEventType();
+        this.username = event.getUsername();
+        this.isActive = event.getIsActive();
+        this.occurredAt = event.getOccurredAt();
+    }
+}
@@ -0,0 +1,19 @@
+package com.thegame.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of user events.
+ * latestId is the newest offset in the outbox, so consumers can measure their lag.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEventPageDto {
+    private List<UserEventDto> events;
+    private long latestId;
+}
@@ -1,6 +1,7 @@
 package com.thegame.account.dto;
 
 import com.thegame.account.entity.User;
+import com.thegame.account.entity.UserRole;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -21,6 +22,7 @@ public class UserResponseDto {
     private String lastName;
     private Boolean isActive;
     private Boolean isEmailVerified;
+    private UserRole role;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -32,6 +34,7 @@ public class UserResponseDto {
         this.lastName = user.getLastName();
         this.isActive = user.getIsActive();
         this.isEmailVerified = user.getIsEmailVerified();
+        this.role = user.getRole();
         this.createdAt = user.getCreatedAt();
         this.updatedAt = user.getUpdatedAt();
     }
@@ -52,6 +52,10 @@ public class User extends BaseEntity {
     @Column(name = "is_email_verified", nullable = false)
     private Boolean isEmailVerified = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false, length = 20, columnDefinition = "varchar(20) default 'PLAYER'")
+    private UserRole role = UserRole.PLAYER;
+
     // Constructor for creating new users
     public User(String username, String email, String passwordHash) {
         this.username = username;
@@ -0,0 +1,53 @@
+package com.thegame.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Transactional outbox entry for a user lifecycle change.
+ * Written in the same transaction as the change itself, so an event exists
+ * exactly when the change was committed. The id is the offset consumers
+ * (game-service's account replica) track; each event carries the user's
+ * full replicated state, so consumers never need to call back.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_events")
+public class UserEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "user_id", updatable = false, nullable = false, columnDefinition = "uuid")
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", updatable = false, nullable = false, length = 20)
+    private UserEventType eventType;
+
+    @Column(name = "username", updatable = false, nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "is_active", updatable = false, nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "occurred_at", updatable = false, nullable = false)
+    private LocalDateTime occurredAt;
+
+    public UserEvent(UserEventType eventType, User user) {
+        this.userId = user.getId();
+        this.eventType = eventType;
+        this.username = user.getUsername();
+        this.isActive = user.getIsActive();
+        this.occurredAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,14 @@
+package com.thegame.account.entity;
+
+/**
+ * User lifecycle changes published through the user_events outbox.
+ */
+public enum UserEventType {
+    CREATED,
+    UPDATED,
+    ACTIVATED,
+    DEACTIVATED,
+    DELETED,
+    /** Current state of a user that existed before the outbox was introduced. */
+    SNAPSHOT
+}
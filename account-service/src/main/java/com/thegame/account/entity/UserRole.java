@@ -0,0 +1,10 @@
+package com.thegame.account.entity;
+
+/**
+ * Role of a user, issued in the roles claim of access tokens.
+ */
+public enum UserRole {
+    PLAYER,
+    /** May call game-service /api/admin endpoints. */
+    ADMIN
+}
@@ -0,0 +1,27 @@
+package com.thegame.account.repository;
+
+import com.thegame.account.entity.UserEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the user_events outbox.
+ */
+@Repository
+public interface UserEventRepository extends JpaRepository<UserEvent, Long> {
+
+    /**
+     * Events after the given offset, oldest first
+     */
+    List<UserEvent> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Offset of the newest event (0 if there are none)
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM UserEvent e")
+    long findLatestId();
+}
@@ -0,0 +1,135 @@
+package com.thegame.account.service;
+
+import com.thegame.account.config.AuthProperties;
+import com.thegame.account.dto.TokenResponseDto;
+import com.thegame.account.entity.RefreshToken;
+import com.thegame.account.entity.User;
+import com.thegame.account.repository.RefreshTokenRepository;
+import com.thegame.account.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service for login and token refresh.
+ * The password is checked once at login; afterwards the client presents a
+ * short-lived signed access token, renewed with a rotating refresh token.
+ */
+@Service
+@Transactional
+public class AuthService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
+    private static final String INVALID_CREDENTIALS = "Invalid username or password";
+    private static final String INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final AccessTokenIssuer accessTokenIssuer;
+    private final AuthProperties properties;
+    private final SecureRandom secureRandom = new SecureRandom();
+    // Compared against when the username is unknown, so both cases cost one BCrypt check
+    private final String dummyPasswordHash;
+
+    public AuthService(UserRepository userRepository,
+                       RefreshTokenRepository refreshTokenRepository,
+                       PasswordEncoder passwordEncoder,
+                       AccessTokenIssuer accessTokenIssuer,
+                       AuthProperties properties) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.accessTokenIssuer = accessTokenIssuer;
+        this.properties = properties;
+        this.dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Verify the password and issue an access token plus a new refresh token family.
+     */
+    public TokenResponseDto login(String username, String plainPassword) {
+        Optional<User> found = userRepository.findByUsernameIgnoreCase(username);
+        String passwordHash = found.map(User::getPasswordHash).orElse(dummyPasswordHash);
+        boolean matches = passwordEncoder.matches(plainPassword, passwordHash);
+        if (found.isEmpty() || !matches) {
+            throw new BadCredentialsException(INVALID_CREDENTIALS);
+        }
+        User user = found.get();
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            throw new BadCredentialsException("Account is deactivated");
+        }
+        return issueTokens(user, UUID.randomUUID());
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * The presented token is revoked; reusing it later revokes its whole family.
+     * Revocations are committed even when the refresh is rejected.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenResponseDto refresh(String refreshToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+        LocalDateTime now = LocalDateTime.now();
+        if (token.isRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("Revoked refresh token reused for user {}, revoked {} tokens of its family",
+                    token.getUserId(), revoked);
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+        if (token.isExpired()) {
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+        token.setRevokedAt(now);
+
+        User user = userRepository.findById(token.getUserId())
+                .filter(u -> Boolean.TRUE.equals(u.getIsActive()))
+                .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+        return issueTokens(user, token.getFamilyId());
+    }
+
+    /**
+     * Revoke the refresh token family of the given token (logout on that device).
+     */
+    public void logout(String refreshToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    private TokenResponseDto issueTokens(User user, UUID familyId) {
+        byte[] secret = new byte[32];
+        secureRandom.nextBytes(secret);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken(null, hash(refreshToken), user.getId(), familyId,
+                now.plusSeconds(properties.getRefreshTokenTtlSeconds()), null, now));
+
+        return new TokenResponseDto(accessTokenIssuer.issue(user), "Bearer", properties.getAccessTokenTtlSeconds(),
+                refreshToken, properties.getRefreshTokenTtlSeconds());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.thegame.account.service;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the user_events outbox with the existing users on startup.
+ */
+@Component
+public class UserEventBackfill implements ApplicationRunner {
+
+    private final UserEventOutbox userEventOutbox;
+
+    public UserEventBackfill(UserEventOutbox userEventOutbox) {
+        this.userEventOutbox = userEventOutbox;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        userEventOutbox.backfillSnapshots();
+    }
+}
@@ -0,0 +1,81 @@
+package com.thegame.account.service;
+
+import com.thegame.account.entity.User;
+import com.thegame.account.entity.UserEvent;
+import com.thegame.account.entity.UserEventType;
+import com.thegame.account.repository.UserEventRepository;
+import com.thegame.account.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Transactional outbox for user lifecycle events.
+ * Events are recorded inside the transaction making the change, while it
+ * holds the user's row lock (taken when the user was loaded), so events of
+ * the same user get their ids in commit order. Consumers page through the
+ * outbox by id.
+ */
+@Service
+public class UserEventOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEventOutbox.class);
+
+    private final UserEventRepository userEventRepository;
+    private final UserRepository userRepository;
+
+    public UserEventOutbox(UserEventRepository userEventRepository, UserRepository userRepository) {
+        this.userEventRepository = userEventRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Record a change of the given (locked and flushed) user.
+     * Fails if there is no surrounding transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UserEventType eventType, User user) {
+        userEventRepository.save(new UserEvent(eventType, user));
+    }
+
+    /**
+     * Events after the given offset, oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<UserEvent> getEventsAfter(long afterId, int limit) {
+        return userEventRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Offset of the newest event
+     */
+    @Transactional(readOnly = true)
+    public long getLatestId() {
+        return userEventRepository.findLatestId();
+    }
+
+    /**
+     * Seed an empty outbox with a SNAPSHOT event per existing user, so
+     * consumers replaying from offset 0 also see users created before the
+     * outbox existed.
+     */
+    @Transactional
+    public void backfillSnapshots() {
+        if (userEventRepository.count() > 0) {
+            return;
+        }
+        List<User> users = userRepository.findAll();
+        if (users.isEmpty()) {
+            return;
+        }
+        userEventRepository.saveAll(users.stream()
+                .map(user -> new UserEvent(UserEventType.SNAPSHOT, user))
+                .toList());
+        log.info("Seeded user_events with {} snapshot events", users.size());
+    }
+}
@@ -1,12 +1,15 @@
 package com.thegame.account.service;
 
 import com.thegame.account.entity.User;
+import com.thegame.account.entity.UserEventType;
+import com.thegame.account.repository.RefreshTokenRepository;
 import com.thegame.account.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +17,8 @@ import java.util.UUID;
 /**
  * Service class for User-related business logic.
  * Handles user operations like registration, authentication, and profile management.
+ * Lifecycle changes are also recorded in the user_events outbox, in the same transaction.
+ * Deactivating or deleting a user revokes their refresh tokens, ending every session.
  */
 @Service
 @Transactional
@@ -21,11 +26,16 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserEventOutbox userEventOutbox;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       UserEventOutbox userEventOutbox, RefreshTokenRepository refreshTokenRepository) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userEventOutbox = userEventOutbox;
+        this.refreshTokenRepository = refreshTokenRepository;
     }
 
     /**
@@ -46,7 +56,7 @@ public class UserService {
         // Hash the password before storing
         String passwordHash = passwordEncoder.encode(plainPassword);
         User user = new User(username, email, passwordHash);
-        return userRepository.save(user);
+        return saveAndPublish(user, UserEventType.CREATED);
     }
 
     /**
@@ -65,7 +75,7 @@ public class UserService {
         }
 
         User user = new User(username, email, passwordHash);
-        return userRepository.save(user);
+        return saveAndPublish(user, UserEventType.CREATED);
     }
 
     /**
@@ -124,33 +134,39 @@ public class UserService {
             throw new IllegalArgumentException("User ID cannot be null for update");
         }
         
-        if (!userRepository.existsById(user.getId())) {
-            throw new IllegalArgumentException("User not found with ID: " + user.getId());
+        User existing = userRepository.findByIdForUpdate(user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + user.getId()));
+        // The role is not editable through updates
+        user.setRole(existing.getRole());
+
+        User updated = saveAndPublish(user, UserEventType.UPDATED);
+        if (!Boolean.TRUE.equals(updated.getIsActive())) {
+            refreshTokenRepository.revokeAllForUser(updated.getId(), LocalDateTime.now());
         }
-
-        return userRepository.save(user);
+        return updated;
     }
 
     /**
      * Activate user account
      */
     public User activateUser(UUID userId) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
         
         user.activate();
-        return userRepository.save(user);
+        return saveAndPublish(user, UserEventType.ACTIVATED);
     }
 
     /**
      * Deactivate user account
      */
     public User deactivateUser(UUID userId) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
         
         user.deactivate();
-        return userRepository.save(user);
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+        return saveAndPublish(user, UserEventType.DEACTIVATED);
     }
 
     /**
@@ -168,10 +184,13 @@ public class UserService {
      * Delete user by ID
      */
     public void deleteUser(UUID userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new IllegalArgumentException("User not found with ID: " + userId);
-        }
-        userRepository.deleteById(userId);
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
+
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+        userRepository.delete(user);
+        userRepository.flush();
+        userEventOutbox.record(UserEventType.DELETED, user);
     }
 
     /**
@@ -213,4 +232,16 @@ public class UserService {
     public long getVerifiedUserCount() {
         return userRepository.countVerifiedUsers();
     }
+
+    /**
+     * Save and flush the user, then record the change in the outbox.
+     * Existing users must have been loaded with findByIdForUpdate: holding the
+     * row lock before the event id is assigned keeps one user's events in
+     * commit order, even when the change turns out to be a no-op.
+     */
+    private User saveAndPublish(User user, UserEventType eventType) {
+        User saved = userRepository.saveAndFlush(user);
+        userEventOutbox.record(eventType, saved);
+        return saved;
+    }
 }
@@ -18,9 +18,12 @@ GRANT ALL PRIVILEGES ON DATABASE game_db TO postgres;
 -- CREATE INDEX IF NOT EXISTS idx_battle_player_id ON battles(player_id);
 
 -- Insert any initial data if needed
--- INSERT INTO hero_templates (name, rarity, base_attack, base_defense) VALUES 
---   ('Warrior', 'COMMON', 100, 80) ON CONFLICT DO NOTHING,
---   ('Mage', 'COMMON', 120, 60) ON CONFLICT DO NOTHING,
---   ('Archer', 'COMMON', 110, 70) ON CONFLICT DO NOTHING;
+-- hero_templates is loaded into game-service's in-memory StaticDataRegistry at startup;
+-- ids are array indexes there, so keep them small and dense. Seed it for game.static-data.source=DATABASE:
+-- INSERT INTO hero_templates (id, name, rarity, base_attack, base_defense, base_health, base_speed) VALUES
+--   (1, 'Warrior', 'COMMON', 100, 80, 1200, 90),
+--   (2, 'Mage', 'COMMON', 120, 60, 900, 100),
+--   (3, 'Archer', 'COMMON', 110, 70, 1000, 110)
+--   ON CONFLICT DO NOTHING;
 
 
@@ -0,0 +1,51 @@
+package com.thegame.game.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the local replica of account data, fed from
+ * account-service's user_events outbox.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.account-replica")
+public class AccountReplicaProperties {
+
+    /**
+     * Poll account-service for user events. When disabled the replica only
+     * serves what was persisted by earlier runs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Base url of account-service.
+     */
+    private String accountServiceUrl = "http://localhost:8081";
+
+    /**
+     * Name under which the consumed offset is stored in consumer_offsets.
+     */
+    private String consumerName = "game-service";
+
+    /**
+     * Delay between polls once the replica has caught up.
+     */
+    private long pollIntervalMs = 1_000;
+
+    /**
+     * Events requested per poll request.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Connect and read timeout for requests to account-service.
+     */
+    private long requestTimeoutMs = 2_000;
+
+    /**
+     * How long to wait for a missing event id before skipping it. Ids are
+     * assigned before commit, so a gap is usually a transaction that has not
+     * committed yet; one that outlives this timeout is taken as rolled back.
+     */
+    private long gapTimeoutMs = 5_000;
+}
@@ -0,0 +1,76 @@
+package com.thegame.game.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for verifying account-service access tokens.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.auth")
+public class AuthProperties {
+
+    /**
+     * Require a valid bearer token on every request outside publicPaths.
+     */
+    private boolean enabled = true;
+
+    /**
+     * account-service JWK set with the public keys tokens are signed with.
+     */
+    private String jwkSetUri = "http://localhost:8081/api/auth/jwks";
+
+    /**
+     * Required iss claim.
+     */
+    private String issuer = "thegame-account-service";
+
+    /**
+     * How often the JWK set is re-fetched in the background.
+     */
+    private long jwkSetRefreshIntervalMs = 300_000;
+
+    /**
+     * Minimum delay between fetches triggered by a token signed with an unknown key id.
+     */
+    private long jwkSetMinRefetchIntervalMs = 30_000;
+
+    /**
+     * Connect and read timeout for fetching the JWK set.
+     */
+    private long requestTimeoutMs = 2_000;
+
+    /**
+     * Tolerated clock difference when checking exp and nbf.
+     */
+    private long clockSkewSeconds = 30;
+
+    /**
+     * Maximum number of verified tokens remembered until they expire.
+     */
+    private int tokenCacheSize = 10_000;
+
+    /**
+     * Reject tokens of accounts the local account replica knows to be deactivated.
+     */
+    private boolean rejectInactiveAccounts = true;
+
+    /**
+     * Ant-style paths served without a token.
+     */
+    private List<String> publicPaths = new ArrayList<>(List.of("/api/health", "/actuator/**"));
+
+    /**
+     * Ant-style paths that additionally require adminRole in the token's roles claim.
+     * Matched against the handler mapping pattern and the normalized request path.
+     */
+    private List<String> adminPaths = new ArrayList<>(List.of("/api/admin/**"));
+
+    /**
+     * Role required on adminPaths.
+     */
+    private String adminRole = "ADMIN";
+}
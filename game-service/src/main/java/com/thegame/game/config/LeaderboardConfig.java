@@ -0,0 +1,39 @@
+package com.thegame.game.config;
+
+import com.thegame.game.service.leaderboard.InMemoryLeaderboard;
+import com.thegame.game.service.leaderboard.Leaderboard;
+import com.thegame.game.service.leaderboard.RedisLeaderboard;
+import org.springframework.boot.actuate.data.redis.RedisHealthIndicator;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Selects the arena leaderboard store via game.leaderboard.store.
+ * Redis is only health-checked when it backs the leaderboard; the default
+ * Redis health indicator is disabled (management.health.redis.enabled).
+ */
+@Configuration
+public class LeaderboardConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "game.leaderboard", name = "store", havingValue = "redis")
+    public Leaderboard redisArenaLeaderboard(StringRedisTemplate redisTemplate, LeaderboardProperties properties) {
+        return new RedisLeaderboard(redisTemplate, properties.getRedisKey());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "game.leaderboard", name = "store", havingValue = "redis")
+    public HealthIndicator redisHealthIndicator(RedisConnectionFactory redisConnectionFactory) {
+        return new RedisHealthIndicator(redisConnectionFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "game.leaderboard", name = "store", havingValue = "memory", matchIfMissing = true)
+    public Leaderboard inMemoryArenaLeaderboard() {
+        return new InMemoryLeaderboard();
+    }
+}
@@ -0,0 +1,41 @@
+package com.thegame.game.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the arena leaderboard.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.leaderboard")
+public class LeaderboardProperties {
+
+    public enum Store {
+        /** Order-statistic tree inside this JVM (single instance, tests). */
+        MEMORY,
+        /** Redis sorted set shared by all instances. */
+        REDIS
+    }
+
+    private Store store = Store.MEMORY;
+
+    /**
+     * Sorted set key used by the Redis store.
+     */
+    private String redisKey = "arena:leaderboard";
+
+    /**
+     * Rating reported for players that have not played an arena match yet.
+     */
+    private long defaultRating = 1000;
+
+    /**
+     * How often changed ratings are checkpointed to PostgreSQL.
+     */
+    private long checkpointIntervalMs = 30_000;
+
+    /**
+     * Upper bound for top-N limits and neighbor radii accepted by the API.
+     */
+    private int maxPageSize = 500;
+}
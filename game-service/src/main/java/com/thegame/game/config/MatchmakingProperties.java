@@ -0,0 +1,52 @@
+package com.thegame.game.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for arena matchmaking.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.matchmaking")
+public class MatchmakingProperties {
+
+    /**
+     * Width of one rating bucket; queued players are grouped by rating / bucketWidth.
+     */
+    private int bucketWidth = 50;
+
+    /**
+     * Accepted rating difference for a player who just joined the queue.
+     */
+    private int initialWindow = 100;
+
+    /**
+     * How much the accepted rating difference grows per second of waiting.
+     */
+    private int windowGrowthPerSecond = 25;
+
+    /**
+     * Upper bound for the accepted rating difference.
+     */
+    private int maxWindow = 1000;
+
+    /**
+     * Delay between matching passes.
+     */
+    private long matchIntervalMs = 1000;
+
+    /**
+     * Maximum number of queued tickets considered in one matching pass.
+     */
+    private int maxBatchSize = 10_000;
+
+    /**
+     * Tickets waiting longer than this are dropped from the queue.
+     */
+    private long ticketTimeoutSeconds = 300;
+
+    /**
+     * How long a found match is kept for the players to pick up.
+     */
+    private long matchRetentionSeconds = 60;
+}
@@ -0,0 +1,12 @@
+package com.thegame.game.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (leaderboard checkpoints, ...).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
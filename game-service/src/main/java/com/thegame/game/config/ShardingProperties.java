@@ -0,0 +1,66 @@
+package com.thegame.game.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for sharding per-player game data (players, heroes) across
+ * several PostgreSQL databases. Global data (hero templates, arena ratings,
+ * shard topology) always stays in the primary spring.datasource.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.sharding")
+public class ShardingProperties {
+
+    /**
+     * When disabled, all player data lives in a single shard 0 backed by the primary datasource.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Points each shard gets on the consistent hash ring; more points = more even spread.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Shards placed on the ring when no topology has been persisted yet (first start).
+     * After a resharding the persisted topology takes precedence. Empty = all configured shards.
+     */
+    private List<Integer> activeShards = new ArrayList<>();
+
+    /**
+     * Every shard database game-service may route to (including shards only
+     * used as resharding targets).
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Timeout for cross-shard scatter-gather queries.
+     */
+    private long scatterTimeoutMs = 5_000;
+
+    /**
+     * Rows copied or deleted per batch by the resharding tool.
+     */
+    private int reshardBatchSize = 500;
+
+    @Data
+    public static class Shard {
+
+        private int id;
+
+        /**
+         * JDBC url; leave blank to use the primary datasource for this shard.
+         */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maxPoolSize = 10;
+    }
+}
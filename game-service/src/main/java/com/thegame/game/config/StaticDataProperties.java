@@ -0,0 +1,28 @@
+package com.thegame.game.config;
+
+import com.thegame.game.service.staticdata.StaticDataSource;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the in-memory static data registry.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.static-data")
+public class StaticDataProperties {
+
+    /**
+     * Source used for the startup load and for reloads that don't name one.
+     */
+    private StaticDataSource source = StaticDataSource.FILE;
+
+    /**
+     * Location of the versioned static data file (any Spring resource location).
+     */
+    private String fileLocation = "classpath:static-data/static-data.json";
+
+    /**
+     * Upper bound for template ids; ids index primitive arrays directly.
+     */
+    private int maxTemplateId = 100_000;
+}
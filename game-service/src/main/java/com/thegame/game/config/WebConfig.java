@@ -0,0 +1,24 @@
+package com.thegame.game.config;
+
+import com.thegame.game.service.auth.AdminRoleInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the admin role check on every MVC handler.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdminRoleInterceptor adminRoleInterceptor;
+
+    public WebConfig(AdminRoleInterceptor adminRoleInterceptor) {
+        this.adminRoleInterceptor = adminRoleInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(adminRoleInterceptor);
+    }
+}
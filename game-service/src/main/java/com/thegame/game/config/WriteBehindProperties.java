@@ -0,0 +1,33 @@
+package com.thegame.game.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the player progression write-behind buffer.
+ */
+@Data
+@ConfigurationProperties(prefix = "game.progression.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * Flush pending changes at least this often.
+     */
+    private long flushIntervalMs = 500;
+
+    /**
+     * Flush early once this many players have pending changes.
+     */
+    private int maxPendingPlayers = 1_000;
+
+    /**
+     * Directory for the local append-only journal replayed after a crash.
+     */
+    private String journalDirectory = "data/progression-journal";
+
+    /**
+     * fsync the journal after every append. Without it the journal survives a
+     * process crash but not an OS crash or power loss.
+     */
+    private boolean fsync = false;
+}
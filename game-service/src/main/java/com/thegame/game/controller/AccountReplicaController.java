@@ -0,0 +1,54 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.service.accountreplica.AccountReplicaService;
+import com.thegame.game.service.accountreplica.AccountReplicaStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Admin REST controller for the local account replica.
+ */
+@RestController
+@RequestMapping("/api/admin/account-replica")
+public class AccountReplicaController {
+
+    private final AccountReplicaService accountReplicaService;
+
+    public AccountReplicaController(AccountReplicaService accountReplicaService) {
+        this.accountReplicaService = accountReplicaService;
+    }
+
+    /**
+     * Get consumer offset, lag and replica size
+     */
+    @GetMapping
+    public ResponseEntity<AccountReplicaStatus> getStatus() {
+        return ResponseEntity.ok(accountReplicaService.getStatus());
+    }
+
+    /**
+     * Get a replicated account
+     */
+    @GetMapping("/accounts/{userId}")
+    public ResponseEntity<?> getAccount(@PathVariable UUID userId) {
+        return accountReplicaService.findAccount(userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Replay user events after the given offset (optionally rebuilding the replica from scratch)
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<?> replay(@RequestParam(defaultValue = "0") long fromOffset,
+                                    @RequestParam(defaultValue = "false") boolean rebuild) {
+        try {
+            return ResponseEntity.ok(accountReplicaService.replayFrom(fromOffset, rebuild));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
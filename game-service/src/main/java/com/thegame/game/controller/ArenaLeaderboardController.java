@@ -0,0 +1,84 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.service.leaderboard.ArenaLeaderboardService;
+import com.thegame.game.service.leaderboard.LeaderboardEntry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST controller for the random arena leaderboard.
+ */
+@RestController
+@RequestMapping("/api/arena/leaderboard")
+public class ArenaLeaderboardController {
+
+    private final ArenaLeaderboardService arenaLeaderboardService;
+
+    public ArenaLeaderboardController(ArenaLeaderboardService arenaLeaderboardService) {
+        this.arenaLeaderboardService = arenaLeaderboardService;
+    }
+
+    /**
+     * Get the top N players
+     */
+    @GetMapping("/top")
+    public ResponseEntity<?> getTop(@RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(arenaLeaderboardService.getTop(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a player's rank and rating
+     */
+    @GetMapping("/players/{playerId}")
+    public ResponseEntity<?> getPlayerRank(@PathVariable UUID playerId) {
+        return arenaLeaderboardService.getEntry(playerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get players ranked around a player
+     */
+    @GetMapping("/players/{playerId}/neighbors")
+    public ResponseEntity<?> getPlayerNeighbors(@PathVariable UUID playerId,
+                                                @RequestParam(defaultValue = "5") int radius) {
+        try {
+            List<LeaderboardEntry> neighbors = arenaLeaderboardService.getNeighbors(playerId, radius);
+            if (neighbors.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(neighbors);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get players ranked around a given rank
+     */
+    @GetMapping("/ranks/{rank}/neighbors")
+    public ResponseEntity<?> getRankNeighbors(@PathVariable long rank,
+                                              @RequestParam(defaultValue = "5") int radius) {
+        try {
+            return ResponseEntity.ok(arenaLeaderboardService.getAroundRank(rank, radius));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get leaderboard statistics
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(Map.of("rankedPlayers", arenaLeaderboardService.getPlayerCount()));
+    }
+}
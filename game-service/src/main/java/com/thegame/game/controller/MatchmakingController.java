@@ -0,0 +1,90 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.service.auth.AuthenticatedPlayer;
+import com.thegame.game.service.auth.TokenAuthenticationFilter;
+import com.thegame.game.service.matchmaking.MatchmakingService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST controller for random arena matchmaking.
+ * Clients join the queue and then poll their status until a match is found.
+ * With authentication enabled, players can only act on their own queue entry.
+ */
+@RestController
+@RequestMapping("/api/arena/matchmaking")
+public class MatchmakingController {
+
+    private final MatchmakingService matchmakingService;
+
+    public MatchmakingController(MatchmakingService matchmakingService) {
+        this.matchmakingService = matchmakingService;
+    }
+
+    /**
+     * Join the arena queue
+     */
+    @PostMapping("/players/{playerId}")
+    public ResponseEntity<?> joinQueue(@PathVariable UUID playerId,
+                                       @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_PLAYER,
+                                               required = false) AuthenticatedPlayer player) {
+        if (!isSelf(player, playerId)) {
+            return forbidden();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(matchmakingService.enqueue(playerId));
+    }
+
+    /**
+     * Get queue status (or the found match)
+     */
+    @GetMapping("/players/{playerId}")
+    public ResponseEntity<?> getStatus(@PathVariable UUID playerId,
+                                       @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_PLAYER,
+                                               required = false) AuthenticatedPlayer player) {
+        if (!isSelf(player, playerId)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(matchmakingService.getStatus(playerId));
+    }
+
+    /**
+     * Leave the arena queue
+     */
+    @DeleteMapping("/players/{playerId}")
+    public ResponseEntity<?> leaveQueue(@PathVariable UUID playerId,
+                                        @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_PLAYER,
+                                                required = false) AuthenticatedPlayer player) {
+        if (!isSelf(player, playerId)) {
+            return forbidden();
+        }
+        if (!matchmakingService.cancel(playerId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Get matchmaking statistics
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(Map.of(
+                "queueDepth", matchmakingService.getQueueDepth(),
+                "matchesPerSecond", matchmakingService.getMatchesPerSecond()
+        ));
+    }
+
+    // No player attribute means authentication is disabled
+    private static boolean isSelf(AuthenticatedPlayer player, UUID playerId) {
+        return player == null || player.userId().equals(playerId);
+    }
+
+    private static ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "Token does not belong to this player"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.repository.PlayerRepository;
+import com.thegame.game.service.sharding.ConsistentHashRing;
+import com.thegame.game.service.sharding.ReshardingService;
+import com.thegame.game.service.sharding.ReshardingStatus;
+import com.thegame.game.service.sharding.ShardRouter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin REST controller for the player data shards and the online resharding tool.
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+public class ShardingController {
+
+    private final ShardRouter router;
+    private final PlayerRepository playerRepository;
+    private final ReshardingService reshardingService;
+
+    public ShardingController(ShardRouter router,
+                              PlayerRepository playerRepository,
+                              ReshardingService reshardingService) {
+        this.router = router;
+        this.playerRepository = playerRepository;
+        this.reshardingService = reshardingService;
+    }
+
+    /**
+     * Get the shard ring and player counts per shard
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getShards() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("enabled", router.isEnabled());
+        response.put("ring", router.getRing().getShardIds());
+        response.put("virtualNodes", router.getRing().getVirtualNodes());
+        response.put("targetRing", router.getTargetRing().map(ConsistentHashRing::getShardIds).orElse(null));
+        response.put("playersPerShard", playerRepository.countPerShard());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Start moving player data onto the given shards
+     */
+    @PostMapping("/reshard")
+    public ResponseEntity<?> reshard(@RequestBody Map<String, List<Integer>> request) {
+        try {
+            ReshardingStatus status = reshardingService.start(request.get("shardIds"));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get resharding progress
+     */
+    @GetMapping("/reshard")
+    public ResponseEntity<ReshardingStatus> getReshardingStatus() {
+        return ResponseEntity.ok(reshardingService.getStatus());
+    }
+}
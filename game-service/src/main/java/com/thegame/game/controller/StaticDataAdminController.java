@@ -0,0 +1,40 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.service.staticdata.StaticDataRegistry;
+import com.thegame.game.service.staticdata.StaticDataSnapshot;
+import com.thegame.game.service.staticdata.StaticDataSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin REST controller for hot reloading static data.
+ */
+@RestController
+@RequestMapping("/api/admin/static-data")
+public class StaticDataAdminController {
+
+    private final StaticDataRegistry staticDataRegistry;
+
+    public StaticDataAdminController(StaticDataRegistry staticDataRegistry) {
+        this.staticDataRegistry = staticDataRegistry;
+    }
+
+    /**
+     * Hot reload static data from the database or the versioned file.
+     * Defaults to the configured source when none is given.
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload(@RequestParam(required = false) StaticDataSource source) {
+        try {
+            StaticDataSnapshot snapshot = source != null
+                    ? staticDataRegistry.reload(source)
+                    : staticDataRegistry.reload();
+            return ResponseEntity.ok(StaticDataController.describe(snapshot));
+        } catch (RuntimeException e) {
+            // The previous snapshot stays active on any load failure
+            return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+        }
+    }
+}
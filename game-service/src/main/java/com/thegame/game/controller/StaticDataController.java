@@ -0,0 +1,63 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.service.staticdata.StaticDataRegistry;
+import com.thegame.game.service.staticdata.StaticDataSnapshot;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST controller for the static data registry.
+ * Exposes the active snapshot; the hot reload is in {@link StaticDataAdminController}.
+ */
+@RestController
+@RequestMapping("/api/static-data")
+public class StaticDataController {
+
+    private final StaticDataRegistry staticDataRegistry;
+
+    public StaticDataController(StaticDataRegistry staticDataRegistry) {
+        this.staticDataRegistry = staticDataRegistry;
+    }
+
+    /**
+     * Get information about the active snapshot
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getSnapshotInfo() {
+        return ResponseEntity.ok(describe(staticDataRegistry.current()));
+    }
+
+    /**
+     * Get hero template by ID
+     */
+    @GetMapping("/heroes/{id}")
+    public ResponseEntity<?> getHeroTemplate(@PathVariable int id) {
+        StaticDataSnapshot snapshot = staticDataRegistry.current();
+        if (!snapshot.hasHeroTemplate(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> hero = new LinkedHashMap<>();
+        hero.put("id", id);
+        hero.put("name", snapshot.heroName(id));
+        hero.put("rarity", snapshot.heroRarity(id));
+        hero.put("baseAttack", snapshot.heroBaseAttack(id));
+        hero.put("baseDefense", snapshot.heroBaseDefense(id));
+        hero.put("baseHealth", snapshot.heroBaseHealth(id));
+        hero.put("baseSpeed", snapshot.heroBaseSpeed(id));
+        hero.put("version", snapshot.getVersion());
+        return ResponseEntity.ok(hero);
+    }
+
+    static Map<String, Object> describe(StaticDataSnapshot snapshot) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("version", snapshot.getVersion());
+        info.put("source", snapshot.getSource());
+        info.put("loadedAt", snapshot.getLoadedAt());
+        info.put("heroTemplates", snapshot.getHeroTemplateCount());
+        info.put("estimatedFootprintBytes", snapshot.estimatedFootprintBytes());
+        return info;
+    }
+}
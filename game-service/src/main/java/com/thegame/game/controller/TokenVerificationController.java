@@ -0,0 +1,51 @@
+package com.thegame.game.controller;
+
+import com.thegame.game.service.auth.AuthenticatedPlayer;
+import com.thegame.game.service.auth.TokenAuthenticationFilter;
+import com.thegame.game.service.auth.TokenVerifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin REST controller for access token verification.
+ */
+@RestController
+@RequestMapping("/api/admin/auth")
+public class TokenVerificationController {
+
+    private final TokenVerifier tokenVerifier;
+
+    public TokenVerificationController(TokenVerifier tokenVerifier) {
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    /**
+     * Get the identity of the calling token
+     */
+    @GetMapping("/me")
+    public ResponseEntity<?> getCurrentPlayer(
+            @RequestAttribute(name = TokenAuthenticationFilter.AUTHENTICATED_PLAYER, required = false)
+            AuthenticatedPlayer player) {
+        if (player == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(player);
+    }
+
+    /**
+     * Benchmark verification cost per request using the caller's own token
+     */
+    @PostMapping("/benchmark")
+    public ResponseEntity<?> benchmark(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestParam(defaultValue = "1000") int iterations) {
+        try {
+            String token = authorization.replaceFirst("(?i)^Bearer\\s+", "");
+            return ResponseEntity.ok(tokenVerifier.benchmark(token, iterations));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.thegame.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Local copy of the account fields game-service needs (username, active flag),
+ * maintained from account-service's user events. Deleted accounts stay as
+ * inactive tombstones. The live replica is held in
+ * memory; this table lets it survive restarts without a full replay.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "account_replica")
+public class AccountReplica {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false, columnDefinition = "uuid")
+    private UUID userId;
+
+    @Column(name = "username", nullable = false, length = 50)
+    private String username;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    /**
+     * Id of the user event this row was last written from.
+     */
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.thegame.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Checkpointed arena rating of a player.
+ * The live leaderboard is held in memory (or Redis); this table is the durable
+ * copy it is rebuilt from on startup.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "arena_ratings", indexes = @Index(name = "idx_arena_rating", columnList = "rating"))
+public class ArenaRating {
+
+    @Id
+    @Column(name = "player_id", updatable = false, nullable = false, columnDefinition = "uuid")
+    private UUID playerId;
+
+    @Column(name = "rating", nullable = false)
+    private Long rating;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.thegame.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last event id applied by an event consumer, committed together with the
+ * data the events were applied to.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "consumer_offsets")
+public class ConsumerOffset {
+
+    @Id
+    @Column(name = "consumer", updatable = false, nullable = false, length = 100)
+    private String consumer;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
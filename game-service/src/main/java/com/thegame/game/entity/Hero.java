@@ -0,0 +1,26 @@
+package com.thegame.game.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A hero owned by a player, instantiated from a hero template.
+ * Stored on the owning player's shard next to the player row; see {@link Player}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Hero {
+
+    private UUID id;
+    private UUID playerId;
+    private Integer templateId;
+    private Integer level;
+    private Integer stars;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
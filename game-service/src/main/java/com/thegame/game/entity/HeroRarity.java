@@ -0,0 +1,12 @@
+package com.thegame.game.entity;
+
+/**
+ * Rarity tiers for hero templates, ordered from lowest to highest.
+ */
+public enum HeroRarity {
+    COMMON,
+    RARE,
+    EPIC,
+    LEGENDARY,
+    MYTHIC
+}
@@ -0,0 +1,52 @@
+package com.thegame.game.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hero template entity (static catalog data).
+ * Ids are assigned by game design rather than generated, so they stay stable
+ * across environments and can be used directly as array indexes in the
+ * in-memory static data registry.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "hero_templates")
+public class HeroTemplate {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private Integer id;
+
+    @NotBlank(message = "Name is required")
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    @NotNull(message = "Rarity is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rarity", nullable = false, length = 20)
+    private HeroRarity rarity;
+
+    @PositiveOrZero
+    @Column(name = "base_attack", nullable = false)
+    private Integer baseAttack;
+
+    @PositiveOrZero
+    @Column(name = "base_defense", nullable = false)
+    private Integer baseDefense;
+
+    @PositiveOrZero
+    @Column(name = "base_health", nullable = false)
+    private Integer baseHealth;
+
+    @PositiveOrZero
+    @Column(name = "base_speed", nullable = false)
+    private Integer baseSpeed;
+}
@@ -0,0 +1,32 @@
+package com.thegame.game.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Player game state (progression, currencies).
+ * The id is the account-service user id, so no mapping table is needed
+ * between accounts and players.
+ * Players live on the shard chosen by their id, so this is not a JPA entity:
+ * the table is created from db/shard-schema.sql on every shard, rows are
+ * written by the progression write-behind buffer and read through
+ * {@link com.thegame.game.repository.PlayerRepository}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Player {
+
+    private UUID id;
+    private Integer campaignStage;
+    private Integer level;
+    private Long experience;
+    private Long gold;
+    private LocalDateTime lastIdleCollectAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.thegame.game.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted shard ring membership (single row), stored in the primary database.
+ * Written when a resharding is committed so restarts keep routing players to
+ * the shards that actually hold their data.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "shard_topology")
+public class ShardTopology {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private Integer id;
+
+    /**
+     * Comma separated shard ids on the ring, e.g. "0,1,2".
+     */
+    @Column(name = "shard_ids", nullable = false)
+    private String shardIds;
+
+    @Column(name = "virtual_nodes", nullable = false)
+    private Integer virtualNodes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,104 @@
+package com.thegame.game.repository;
+
+import com.thegame.game.service.accountreplica.AccountSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Batch access to the account_replica table and the replica's consumer offset.
+ * A batch of applied events and the new offset are committed together, so a
+ * restart resumes exactly after the last persisted event.
+ */
+@Repository
+public class AccountReplicaRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO account_replica (user_id, username, is_active, event_id, updated_at) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (user_id) DO UPDATE SET
+                username = EXCLUDED.username,
+                is_active = EXCLUDED.is_active,
+                event_id = EXCLUDED.event_id,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPSERT_OFFSET_SQL = """
+            INSERT INTO consumer_offsets (consumer, last_event_id, updated_at) VALUES (?, ?, ?)
+            ON CONFLICT (consumer) DO UPDATE SET last_event_id = EXCLUDED.last_event_id, updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountReplicaRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Write the final state of every changed account (deleted ones as inactive
+     * tombstones) and advance the consumer offset, all in one transaction.
+     */
+    @Transactional
+    public void applyBatch(Collection<AccountRow> upserts, String consumer, long lastEventId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!upserts.isEmpty()) {
+            List<Object[]> rows = upserts.stream()
+                    .map(row -> new Object[]{row.account().userId(), row.account().username(),
+                            row.account().active(), row.eventId(), now})
+                    .toList();
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+        jdbcTemplate.update(UPSERT_OFFSET_SQL, consumer, lastEventId, now);
+    }
+
+    /**
+     * Offset stored for the consumer, or 0 if it never consumed anything.
+     */
+    @Transactional(readOnly = true)
+    public long findOffset(String consumer) {
+        List<Long> offsets = jdbcTemplate.queryForList(
+                "SELECT last_event_id FROM consumer_offsets WHERE consumer = ?", Long.class, consumer);
+        return offsets.isEmpty() ? 0 : offsets.get(0);
+    }
+
+    /**
+     * Move the consumer to the given offset, optionally dropping every replicated account first.
+     */
+    @Transactional
+    public void reset(String consumer, long lastEventId, boolean clearAccounts) {
+        if (clearAccounts) {
+            jdbcTemplate.update("DELETE FROM account_replica");
+        }
+        jdbcTemplate.update(UPSERT_OFFSET_SQL, consumer, lastEventId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Stream every replicated account to the consumer; returns the number of rows read.
+     */
+    @Transactional(readOnly = true)
+    public long forEach(Consumer<AccountSummary> consumer) {
+        long[] count = {0};
+        jdbcTemplate.query("SELECT user_id, username, is_active FROM account_replica", rs -> {
+            consumer.accept(new AccountSummary(rs.getObject("user_id", UUID.class), rs.getString("username"),
+                    rs.getBoolean("is_active")));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Account state as of the given event.
+     */
+    public record AccountRow(AccountSummary account, long eventId) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.thegame.game.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batch access to the arena_ratings checkpoint table.
+ * Uses plain JDBC rather than JPA so checkpoints are a single batched upsert
+ * and startup rebuilds stream rows instead of materializing entities.
+ */
+@Repository
+public class ArenaRatingCheckpointRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO arena_ratings (player_id, rating, updated_at) VALUES (?, ?, ?)
+            ON CONFLICT (player_id) DO UPDATE SET rating = EXCLUDED.rating, updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArenaRatingCheckpointRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Insert or update the given ratings in one JDBC batch.
+     */
+    @Transactional
+    public void upsertAll(Map<UUID, Long> ratings) {
+        if (ratings.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = ratings.entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), e.getValue(), now})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    @Transactional
+    public void deleteAll(Collection<UUID> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = playerIds.stream().map(id -> new Object[]{id}).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM arena_ratings WHERE player_id = ?", rows);
+    }
+
+    /**
+     * Stream every checkpointed rating to the consumer; returns the number of rows read.
+     * Runs in a read-only transaction so the PostgreSQL driver honours the fetch size
+     * and uses a cursor instead of loading the whole table.
+     */
+    @Transactional(readOnly = true)
+    public long forEach(RatingConsumer consumer) {
+        long[] count = {0};
+        jdbcTemplate.query("SELECT player_id, rating FROM arena_ratings", rs -> {
+            consumer.accept(rs.getObject("player_id", UUID.class), rs.getLong("rating"));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    @FunctionalInterface
+    public interface RatingConsumer {
+        void accept(UUID playerId, long rating);
+    }
+}
@@ -0,0 +1,14 @@
+package com.thegame.game.repository;
+
+import com.thegame.game.entity.HeroTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for HeroTemplate entity operations.
+ * Only used to (re)load the static data registry - gameplay code should read
+ * templates from {@link com.thegame.game.service.staticdata.StaticDataRegistry}.
+ */
+@Repository
+public interface HeroTemplateRepository extends JpaRepository<HeroTemplate, Integer> {
+}
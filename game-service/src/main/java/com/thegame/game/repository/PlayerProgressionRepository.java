@@ -0,0 +1,173 @@
+package com.thegame.game.repository;
+
+import com.thegame.game.service.sharding.ConsistentHashRing;
+import com.thegame.game.service.sharding.ShardDataSourceRegistry;
+import com.thegame.game.service.sharding.ShardRouter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Batched, shard-aware writes of player progression to the players and heroes tables.
+ * Used by the progression write-behind buffer: rows are grouped by owning
+ * shard and each shard gets one transaction made of a few JDBC batches.
+ */
+@Repository
+public class PlayerProgressionRepository {
+
+    private static final String INSERT_MISSING_PLAYER_SQL = """
+            INSERT INTO players (id, campaign_stage, level, experience, gold, created_at, updated_at)
+            VALUES (?, 0, 1, 0, 0, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    // Null parameters mean "unchanged" and keep the stored value
+    private static final String UPDATE_PLAYER_SQL = """
+            UPDATE players SET
+                campaign_stage = COALESCE(?, campaign_stage),
+                level = COALESCE(?, level),
+                experience = COALESCE(?, experience),
+                gold = COALESCE(?, gold),
+                last_idle_collect_at = COALESCE(?, last_idle_collect_at),
+                updated_at = ?
+            WHERE id = ?
+            """;
+
+    private static final String UPSERT_HERO_SQL = """
+            INSERT INTO heroes (id, player_id, template_id, level, stars, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 1, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET level = EXCLUDED.level, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final ShardRouter router;
+    private final ShardDataSourceRegistry shards;
+    private final ShardMigrationRepository migrationRepository;
+
+    public PlayerProgressionRepository(ShardRouter router,
+                                       ShardDataSourceRegistry shards,
+                                       ShardMigrationRepository migrationRepository) {
+        this.router = router;
+        this.shards = shards;
+        this.migrationRepository = migrationRepository;
+    }
+
+    /**
+     * Upsert the given players and heroes, one transaction per owning shard.
+     * Callers should pass players sorted by id so concurrent writers lock rows
+     * in the same order. If a shard fails the exception propagates and the
+     * caller retries the whole batch; the writes are idempotent.
+     * While a resharding is in progress, players that move to another shard
+     * are copied there right after their owning shard commits.
+     */
+    public void upsertAll(List<PlayerRow> players, List<HeroRow> heroes) {
+        router.withRoutingLock(() -> {
+            ConsistentHashRing ring = router.getRing();
+            Map<Integer, List<PlayerRow>> playersByShard = new TreeMap<>();
+            Map<Integer, List<HeroRow>> heroesByShard = new TreeMap<>();
+            for (PlayerRow player : players) {
+                playersByShard.computeIfAbsent(ring.shardFor(player.id()), s -> new ArrayList<>()).add(player);
+            }
+            for (HeroRow hero : heroes) {
+                heroesByShard.computeIfAbsent(ring.shardFor(hero.playerId()), s -> new ArrayList<>()).add(hero);
+            }
+
+            playersByShard.forEach((shardId, shardPlayers) -> {
+                List<HeroRow> shardHeroes = heroesByShard.getOrDefault(shardId, List.of());
+                shards.transaction(shardId).executeWithoutResult(status ->
+                        writeShard(shards.jdbc(shardId), shardPlayers, shardHeroes));
+            });
+
+            router.getTargetRing().ifPresent(targetRing -> playersByShard.forEach((shardId, shardPlayers) -> {
+                Map<Integer, List<UUID>> moving = new TreeMap<>();
+                for (PlayerRow player : shardPlayers) {
+                    int targetShard = targetRing.shardFor(player.id());
+                    if (targetShard != shardId) {
+                        moving.computeIfAbsent(targetShard, s -> new ArrayList<>()).add(player.id());
+                    }
+                }
+                moving.forEach((targetShard, ids) -> migrationRepository.copyPlayers(shardId, targetShard, ids));
+            }));
+            return null;
+        });
+    }
+
+    private void writeShard(JdbcTemplate jdbcTemplate, List<PlayerRow> players, List<HeroRow> heroes) {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(INSERT_MISSING_PLAYER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setObject(1, players.get(i).id());
+                ps.setTimestamp(2, now);
+                ps.setTimestamp(3, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return players.size();
+            }
+        });
+
+        jdbcTemplate.batchUpdate(UPDATE_PLAYER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PlayerRow player = players.get(i);
+                ps.setObject(1, player.campaignStage(), Types.INTEGER);
+                ps.setObject(2, player.level(), Types.INTEGER);
+                ps.setObject(3, player.experience(), Types.BIGINT);
+                ps.setObject(4, player.gold(), Types.BIGINT);
+                ps.setObject(5, player.idleCollectedAt() != null ? Timestamp.from(player.idleCollectedAt()) : null,
+                        Types.TIMESTAMP);
+                ps.setTimestamp(6, now);
+                ps.setObject(7, player.id());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return players.size();
+            }
+        });
+
+        if (heroes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_HERO_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                HeroRow hero = heroes.get(i);
+                ps.setObject(1, hero.id());
+                ps.setObject(2, hero.playerId());
+                ps.setInt(3, hero.templateId());
+                ps.setInt(4, hero.level());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return heroes.size();
+            }
+        });
+    }
+
+    /**
+     * Changed player columns; null fields are left unchanged.
+     */
+    public record PlayerRow(UUID id, Integer campaignStage, Integer level, Long experience, Long gold,
+                            Instant idleCollectedAt) {
+    }
+
+    public record HeroRow(UUID id, UUID playerId, int templateId, int level) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.thegame.game.repository;
+
+import com.thegame.game.entity.Hero;
+import com.thegame.game.entity.Player;
+import com.thegame.game.service.sharding.ConsistentHashRing;
+import com.thegame.game.service.sharding.ShardDataSourceRegistry;
+import com.thegame.game.service.sharding.ShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Shard-aware read access to players and heroes.
+ * Per-player lookups go straight to the owning shard; the few global queries
+ * scatter to every shard on the ring in parallel and merge the results.
+ */
+@Repository
+public class PlayerRepository {
+
+    private static final String PLAYER_COLUMNS =
+            "id, campaign_stage, level, experience, gold, last_idle_collect_at, created_at, updated_at";
+
+    private static final RowMapper<Player> PLAYER_ROW_MAPPER = (rs, rowNum) -> new Player(
+            rs.getObject("id", UUID.class),
+            rs.getInt("campaign_stage"),
+            rs.getInt("level"),
+            rs.getLong("experience"),
+            rs.getLong("gold"),
+            toLocalDateTime(rs.getTimestamp("last_idle_collect_at")),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at"))
+    );
+
+    private static final RowMapper<Hero> HERO_ROW_MAPPER = (rs, rowNum) -> new Hero(
+            rs.getObject("id", UUID.class),
+            rs.getObject("player_id", UUID.class),
+            rs.getInt("template_id"),
+            rs.getInt("level"),
+            rs.getInt("stars"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at"))
+    );
+
+    private final ShardRouter router;
+    private final ShardDataSourceRegistry shards;
+
+    public PlayerRepository(ShardRouter router, ShardDataSourceRegistry shards) {
+        this.router = router;
+        this.shards = shards;
+    }
+
+    /**
+     * Find player by ID on the owning shard
+     */
+    public Optional<Player> findById(UUID playerId) {
+        List<Player> players = shards.jdbc(router.shardFor(playerId))
+                .query("SELECT " + PLAYER_COLUMNS + " FROM players WHERE id = ?", PLAYER_ROW_MAPPER, playerId);
+        return players.stream().findFirst();
+    }
+
+    /**
+     * Find a player's heroes on the owning shard
+     */
+    public List<Hero> findHeroesByPlayerId(UUID playerId) {
+        return shards.jdbc(router.shardFor(playerId)).query(
+                "SELECT id, player_id, template_id, level, stars, created_at, updated_at FROM heroes "
+                        + "WHERE player_id = ? ORDER BY level DESC, id",
+                HERO_ROW_MAPPER, playerId);
+    }
+
+    /**
+     * Count players across all shards on the ring.
+     * While a resharding is copying, moved players can be counted twice until cleanup.
+     */
+    public long countAll() {
+        return shards.scatter(router.getRing().getShardIds(),
+                        jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM players", Long.class))
+                .values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Player row count of every configured shard (including shards not on the ring).
+     */
+    public Map<Integer, Long> countPerShard() {
+        return shards.scatter(shards.getShardIds(),
+                jdbc -> jdbc.queryForObject("SELECT COUNT(*) FROM players", Long.class));
+    }
+
+    /**
+     * Players furthest in the campaign across all shards.
+     * Each shard returns its own top N owned players; rows it holds for players
+     * it does not own (copies left mid-resharding) are skipped, and the shard
+     * keeps paging until it has N owned rows or runs out.
+     */
+    public List<Player> findTopByCampaignStage(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        ConsistentHashRing ring = router.getRing();
+        Map<Integer, List<Player>> perShard = shards.scatter(ring.getShardIds(),
+                (shardId, jdbc) -> findTopOwned(jdbc, ring, shardId, limit));
+        return perShard.values().stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(Player::getCampaignStage).reversed()
+                        .thenComparing(Player::getId))
+                .limit(limit)
+                .toList();
+    }
+
+    private static List<Player> findTopOwned(JdbcTemplate jdbc, ConsistentHashRing ring, int shardId, int limit) {
+        List<Player> owned = new ArrayList<>(limit);
+        List<Player> page = jdbc.query("SELECT " + PLAYER_COLUMNS + " FROM players "
+                + "ORDER BY campaign_stage DESC, id LIMIT ?", PLAYER_ROW_MAPPER, limit);
+        while (true) {
+            for (Player player : page) {
+                if (ring.shardFor(player.getId()) == shardId) {
+                    owned.add(player);
+                    if (owned.size() == limit) {
+                        return owned;
+                    }
+                }
+            }
+            if (page.size() < limit) {
+                return owned;
+            }
+            // Keyset continuation after the last row of the page (stage descending, id ascending)
+            Player last = page.get(page.size() - 1);
+            page = jdbc.query("SELECT " + PLAYER_COLUMNS + " FROM players "
+                            + "WHERE campaign_stage < ? OR (campaign_stage = ? AND id > ?) "
+                            + "ORDER BY campaign_stage DESC, id LIMIT ?", PLAYER_ROW_MAPPER,
+                    last.getCampaignStage(), last.getCampaignStage(), last.getId(), limit);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
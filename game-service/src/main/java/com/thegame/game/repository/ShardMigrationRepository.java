@@ -0,0 +1,118 @@
+package com.thegame.game.repository;
+
+import com.thegame.game.service.sharding.ShardDataSourceRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Moves player data (player row + heroes) between shards for the resharding tool.
+ * Copies are guarded by updated_at, so a stale copy never overwrites a newer
+ * one and copying the same player twice is harmless.
+ */
+@Repository
+public class ShardMigrationRepository {
+
+    private static final String SELECT_PLAYERS_SQL = """
+            SELECT id, campaign_stage, level, experience, gold, last_idle_collect_at, created_at, updated_at
+            FROM players WHERE id IN (:ids)
+            """;
+
+    private static final String SELECT_HEROES_SQL = """
+            SELECT id, player_id, template_id, level, stars, created_at, updated_at
+            FROM heroes WHERE player_id IN (:ids)
+            """;
+
+    private static final String COPY_PLAYER_SQL = """
+            INSERT INTO players (id, campaign_stage, level, experience, gold, last_idle_collect_at, created_at, updated_at)
+            VALUES (:id, :campaign_stage, :level, :experience, :gold, :last_idle_collect_at, :created_at, :updated_at)
+            ON CONFLICT (id) DO UPDATE SET
+                campaign_stage = EXCLUDED.campaign_stage,
+                level = EXCLUDED.level,
+                experience = EXCLUDED.experience,
+                gold = EXCLUDED.gold,
+                last_idle_collect_at = EXCLUDED.last_idle_collect_at,
+                updated_at = EXCLUDED.updated_at
+            WHERE players.updated_at <= EXCLUDED.updated_at
+            """;
+
+    private static final String COPY_HERO_SQL = """
+            INSERT INTO heroes (id, player_id, template_id, level, stars, created_at, updated_at)
+            VALUES (:id, :player_id, :template_id, :level, :stars, :created_at, :updated_at)
+            ON CONFLICT (id) DO UPDATE SET
+                level = EXCLUDED.level,
+                stars = EXCLUDED.stars,
+                updated_at = EXCLUDED.updated_at
+            WHERE heroes.updated_at <= EXCLUDED.updated_at
+            """;
+
+    private final ShardDataSourceRegistry shards;
+
+    public ShardMigrationRepository(ShardDataSourceRegistry shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Keyset page of player ids stored on a shard, ordered by id.
+     */
+    public List<UUID> findPlayerIdsAfter(int shardId, UUID after, int limit) {
+        JdbcTemplate jdbcTemplate = shards.jdbc(shardId);
+        if (after == null) {
+            return jdbcTemplate.queryForList("SELECT id FROM players ORDER BY id LIMIT ?", UUID.class, limit);
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM players WHERE id > ? ORDER BY id LIMIT ?",
+                UUID.class, after, limit);
+    }
+
+    /**
+     * Copy the given players and their heroes from one shard to another.
+     * Returns the number of player rows read from the source.
+     */
+    public int copyPlayers(int sourceShard, int targetShard, Collection<UUID> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        NamedParameterJdbcTemplate source = new NamedParameterJdbcTemplate(shards.jdbc(sourceShard));
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", playerIds);
+        List<Map<String, Object>> players = source.queryForList(SELECT_PLAYERS_SQL, ids);
+        List<Map<String, Object>> heroes = source.queryForList(SELECT_HEROES_SQL, ids);
+        if (players.isEmpty()) {
+            return 0;
+        }
+
+        NamedParameterJdbcTemplate target = new NamedParameterJdbcTemplate(shards.jdbc(targetShard));
+        shards.transaction(targetShard).executeWithoutResult(status -> {
+            target.batchUpdate(COPY_PLAYER_SQL, toParameters(players));
+            if (!heroes.isEmpty()) {
+                target.batchUpdate(COPY_HERO_SQL, toParameters(heroes));
+            }
+        });
+        return players.size();
+    }
+
+    /**
+     * Delete the given players and their heroes from a shard.
+     */
+    public int deletePlayers(int shardId, Collection<UUID> playerIds) {
+        if (playerIds.isEmpty()) {
+            return 0;
+        }
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(shards.jdbc(shardId));
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", playerIds);
+        Integer deleted = shards.transaction(shardId).execute(status -> {
+            jdbcTemplate.update("DELETE FROM heroes WHERE player_id IN (:ids)", ids);
+            return jdbcTemplate.update("DELETE FROM players WHERE id IN (:ids)", ids);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private static MapSqlParameterSource[] toParameters(List<Map<String, Object>> rows) {
+        return rows.stream().map(MapSqlParameterSource::new).toArray(MapSqlParameterSource[]::new);
+    }
+}
@@ -0,0 +1,12 @@
+package com.thegame.game.repository;
+
+import com.thegame.game.entity.ShardTopology;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the persisted shard topology.
+ */
+@Repository
+public interface ShardTopologyRepository extends JpaRepository<ShardTopology, Integer> {
+}
@@ -0,0 +1,258 @@
+package com.thegame.game.service.accountreplica;
+
+import com.thegame.game.config.AccountReplicaProperties;
+import com.thegame.game.repository.AccountReplicaRepository;
+import com.thegame.game.repository.AccountReplicaRepository.AccountRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local, read-only replica of account data (username, active flag), so
+ * player-facing requests never call account-service synchronously.
+ * A polling consumer reads account-service's user_events outbox in id order
+ * and applies each page to the in-memory map and to account_replica, storing
+ * the consumed offset in the same transaction. Lookups only touch the map.
+ * Event ids are assigned before commit, so a missing id may still appear:
+ * the consumer stops at a gap and only skips it after the gap timeout.
+ */
+@Service
+public class AccountReplicaService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountReplicaService.class);
+
+    private final AccountServiceClient client;
+    private final AccountReplicaRepository repository;
+    private final AccountReplicaProperties properties;
+
+    private final Map<UUID, AccountSummary> accounts = new ConcurrentHashMap<>();
+
+    // Serializes polls and replays; offset and gap state are only written under it
+    private final Object pollLock = new Object();
+    private volatile long offset;
+    private volatile long latestKnownId;
+    private volatile LocalDateTime oldestUnappliedAt;
+    private volatile Instant lastPollAt;
+    private long gapAfter = -1;
+    private Instant gapSince;
+
+    private final Timer pollTimer;
+    private final Counter appliedCounter;
+    private final Counter pollFailureCounter;
+    private final Counter skippedGapCounter;
+
+    public AccountReplicaService(AccountServiceClient client,
+                                 AccountReplicaRepository repository,
+                                 AccountReplicaProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.client = client;
+        this.repository = repository;
+        this.properties = properties;
+
+        this.pollTimer = Timer.builder("game.accountreplica.poll")
+                .description("Time to fetch and apply one page of user events")
+                .register(meterRegistry);
+        this.appliedCounter = Counter.builder("game.accountreplica.applied")
+                .description("User events applied to the account replica")
+                .register(meterRegistry);
+        this.pollFailureCounter = Counter.builder("game.accountreplica.poll.failures")
+                .description("Failed polls of account-service (retried on the next run)")
+                .register(meterRegistry);
+        this.skippedGapCounter = Counter.builder("game.accountreplica.gaps.skipped")
+                .description("Missing user event ids skipped after the gap timeout")
+                .register(meterRegistry);
+        Gauge.builder("game.accountreplica.size", accounts, Map::size)
+                .description("Accounts held in the local replica")
+                .register(meterRegistry);
+        Gauge.builder("game.accountreplica.lag.events", this, AccountReplicaService::getLagEvents)
+                .description("User events published by account-service but not applied yet")
+                .register(meterRegistry);
+        Gauge.builder("game.accountreplica.lag", this, service -> service.getLag().toMillis() / 1000.0)
+                .description("Age of the oldest user event not applied yet")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("game.accountreplica.last.poll.age", this, AccountReplicaService::getLastPollAgeSeconds)
+                .description("Time since account-service was last polled successfully")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the persisted replica and offset, so polling resumes where the previous run stopped.
+     */
+    @PostConstruct
+    public void load() {
+        long loaded = repository.forEach(account -> accounts.put(account.userId(), account));
+        offset = repository.findOffset(properties.getConsumerName());
+        latestKnownId = offset;
+        log.info("Account replica loaded with {} accounts at offset {}", loaded, offset);
+    }
+
+    public Optional<AccountSummary> findAccount(UUID userId) {
+        return Optional.ofNullable(accounts.get(userId));
+    }
+
+    public Optional<String> getUsername(UUID userId) {
+        return findAccount(userId).map(AccountSummary::username);
+    }
+
+    /**
+     * Whether the account exists and is active. Unknown accounts are treated as inactive.
+     */
+    public boolean isActive(UUID userId) {
+        AccountSummary account = accounts.get(userId);
+        return account != null && account.active();
+    }
+
+    public long getLagEvents() {
+        return Math.max(0, latestKnownId - offset);
+    }
+
+    public Duration getLag() {
+        LocalDateTime oldest = oldestUnappliedAt;
+        if (oldest == null || getLagEvents() == 0) {
+            return Duration.ZERO;
+        }
+        Duration lag = Duration.between(oldest, LocalDateTime.now());
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+
+    private double getLastPollAgeSeconds() {
+        Instant last = lastPollAt;
+        return last != null ? Duration.between(last, Instant.now()).toMillis() / 1000.0 : Double.NaN;
+    }
+
+    public AccountReplicaStatus getStatus() {
+        return new AccountReplicaStatus(offset, latestKnownId, getLagEvents(), getLag().toMillis() / 1000.0,
+                accounts.size(), lastPollAt);
+    }
+
+    @Scheduled(fixedDelayString = "${game.account-replica.poll-interval-ms:1000}")
+    public void scheduledPoll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            pollFailureCounter.increment();
+            log.warn("Polling user events from account-service failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Fetch and apply pages of events until caught up (or stopped at a gap).
+     */
+    public void poll() {
+        synchronized (pollLock) {
+            boolean more = true;
+            while (more) {
+                Timer.Sample sample = Timer.start();
+                UserEventPage page = client.fetchEvents(offset, properties.getBatchSize());
+                lastPollAt = Instant.now();
+                latestKnownId = Math.max(page.latestId(), offset);
+                int applied = apply(page.events());
+                sample.stop(pollTimer);
+                more = applied == page.events().size() && page.events().size() == properties.getBatchSize();
+            }
+        }
+    }
+
+    /**
+     * Re-consume events starting after the given offset. With rebuild, the
+     * replica is emptied first; otherwise the replayed events are applied over
+     * the current state (events carry full state, so re-applying is harmless).
+     */
+    public AccountReplicaStatus replayFrom(long fromOffset, boolean rebuild) {
+        if (fromOffset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        synchronized (pollLock) {
+            repository.reset(properties.getConsumerName(), fromOffset, rebuild);
+            if (rebuild) {
+                accounts.clear();
+            }
+            offset = fromOffset;
+            gapAfter = -1;
+            gapSince = null;
+            oldestUnappliedAt = null;
+            log.info("Account replica replaying from offset {}{}", fromOffset, rebuild ? " (rebuild)" : "");
+        }
+        return getStatus();
+    }
+
+    /**
+     * Apply the contiguous prefix of the page (waiting at a gap until it
+     * times out) in one transaction; returns the number of events consumed.
+     */
+    private int apply(List<UserEvent> events) {
+        List<UserEvent> accepted = new ArrayList<>(events.size());
+        long next = offset;
+        for (UserEvent event : events) {
+            if (event.id() <= next) {
+                continue;
+            }
+            if (event.id() != next + 1 && !gapTimedOut(next, event.id())) {
+                break;
+            }
+            accepted.add(event);
+            next = event.id();
+        }
+        oldestUnappliedAt = accepted.size() < events.size() ? events.get(accepted.size()).occurredAt() : null;
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        // Events are in id order, so the last event of a user holds its final state
+        Map<UUID, UserEvent> latest = new LinkedHashMap<>();
+        for (UserEvent event : accepted) {
+            latest.put(event.userId(), event);
+        }
+        List<AccountRow> rows = latest.values().stream()
+                .map(event -> new AccountRow(event.toSummary(), event.id()))
+                .toList();
+        repository.applyBatch(rows, properties.getConsumerName(), next);
+
+        rows.forEach(row -> accounts.put(row.account().userId(), row.account()));
+        offset = next;
+        appliedCounter.increment(accepted.size());
+        return accepted.size();
+    }
+
+    /**
+     * Track how long the consumer has been stuck after lastId; true once the gap should be skipped.
+     */
+    private boolean gapTimedOut(long lastId, long nextId) {
+        Instant now = Instant.now();
+        if (gapAfter != lastId) {
+            gapAfter = lastId;
+            gapSince = now;
+            return false;
+        }
+        if (Duration.between(gapSince, now).toMillis() < properties.getGapTimeoutMs()) {
+            return false;
+        }
+        log.warn("Skipping missing user events {}..{} after waiting {} ms", lastId + 1, nextId - 1,
+                properties.getGapTimeoutMs());
+        skippedGapCounter.increment(nextId - lastId - 1);
+        gapAfter = -1;
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.thegame.game.service.accountreplica;
+
+import java.time.Instant;
+
+/**
+ * Consumer position and lag of the account replica.
+ */
+public record AccountReplicaStatus(
+        long offset,
+        long latestKnownId,
+        long lagEvents,
+        double lagSeconds,
+        int accounts,
+        Instant lastPollAt) {
+}
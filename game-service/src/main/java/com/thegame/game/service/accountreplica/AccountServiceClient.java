@@ -0,0 +1,39 @@
+package com.thegame.game.service.accountreplica;
+
+import com.thegame.game.config.AccountReplicaProperties;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * HTTP client for account-service's internal user events endpoint.
+ */
+@Component
+public class AccountServiceClient {
+
+    private final RestClient restClient;
+
+    public AccountServiceClient(RestClient.Builder builder, AccountReplicaProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getRequestTimeoutMs());
+        requestFactory.setReadTimeout((int) properties.getRequestTimeoutMs());
+        this.restClient = builder
+                .baseUrl(properties.getAccountServiceUrl())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * Fetch up to limit events with an id greater than after, oldest first.
+     */
+    public UserEventPage fetchEvents(long after, int limit) {
+        UserEventPage page = restClient.get()
+                .uri("/api/internal/user-events?after={after}&limit={limit}", after, limit)
+                .retrieve()
+                .body(UserEventPage.class);
+        if (page == null || page.events() == null) {
+            throw new IllegalStateException("Empty response from account-service");
+        }
+        return page;
+    }
+}
@@ -0,0 +1,9 @@
+package com.thegame.game.service.accountreplica;
+
+import java.util.UUID;
+
+/**
+ * Replicated account fields game-service needs for player-facing responses.
+ */
+public record AccountSummary(UUID userId, String username, boolean active) {
+}
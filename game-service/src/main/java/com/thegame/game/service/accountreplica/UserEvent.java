@@ -0,0 +1,31 @@
+package com.thegame.game.service.accountreplica;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * User lifecycle event as published by account-service's user_events outbox.
+ * Every event carries the user's full replicated state.
+ */
+public record UserEvent(
+        long id,
+        UUID userId,
+        String eventType,
+        String username,
+        Boolean isActive,
+        LocalDateTime occurredAt) {
+
+    public static final String DELETED = "DELETED";
+
+    public boolean isDeleted() {
+        return DELETED.equals(eventType);
+    }
+
+    /**
+     * Replicated state after this event; a deleted account is kept as an
+     * inactive tombstone, so its unexpired tokens are still rejected.
+     */
+    public AccountSummary toSummary() {
+        return new AccountSummary(userId, username, !isDeleted() && Boolean.TRUE.equals(isActive));
+    }
+}
@@ -0,0 +1,9 @@
+package com.thegame.game.service.accountreplica;
+
+import java.util.List;
+
+/**
+ * One page of user events plus the newest event id account-service knows of.
+ */
+public record UserEventPage(List<UserEvent> events, long latestId) {
+}
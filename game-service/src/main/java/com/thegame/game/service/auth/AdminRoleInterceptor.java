@@ -0,0 +1,78 @@
+package com.thegame.game.service.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thegame.game.config.AuthProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Requires the admin role on admin paths. Runs after Spring MVC resolved the
+ * handler, so the check uses the route that will actually serve the request
+ * (its mapping pattern) rather than the raw request URI, which may still hold
+ * encoded characters or ;path parameters that MVC ignores when routing.
+ */
+@Component
+public class AdminRoleInterceptor implements HandlerInterceptor {
+
+    private final AuthProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public AdminRoleInterceptor(AuthProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!properties.isEnabled() || "OPTIONS".equals(request.getMethod()) || !isAdminRoute(request)) {
+            return true;
+        }
+        String rawPath = request.getRequestURI().substring(request.getContextPath().length());
+        if (rawPath.indexOf(';') >= 0 || rawPath.indexOf('%') >= 0) {
+            reject(response, HttpServletResponse.SC_BAD_REQUEST, "Encoded characters and path parameters "
+                    + "are not allowed on admin paths");
+            return false;
+        }
+        Object authenticated = request.getAttribute(TokenAuthenticationFilter.AUTHENTICATED_PLAYER);
+        if (!(authenticated instanceof AuthenticatedPlayer player)) {
+            reject(response, HttpServletResponse.SC_UNAUTHORIZED, "Missing bearer token");
+            return false;
+        }
+        if (!player.hasRole(properties.getAdminRole())) {
+            reject(response, HttpServletResponse.SC_FORBIDDEN, "Admin role required");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether the matched handler pattern or the normalized request path is an admin path.
+     */
+    private boolean isAdminRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = TokenAuthenticationFilter.normalizedPath(request);
+        return properties.getAdminPaths().stream().anyMatch(adminPath ->
+                (pattern != null && pathMatcher.match(adminPath, pattern.toString()))
+                        || pathMatcher.match(adminPath, path));
+    }
+
+    private void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        if (status == HttpServletResponse.SC_UNAUTHORIZED) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+    }
+}
@@ -0,0 +1,16 @@
+package com.thegame.game.service.auth;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Identity taken from a verified access token.
+ * The token subject is the account-service user id.
+ */
+public record AuthenticatedPlayer(UUID userId, String username, Set<String> roles, Instant expiresAt) {
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+}
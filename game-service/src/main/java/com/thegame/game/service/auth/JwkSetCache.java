@@ -0,0 +1,125 @@
+package com.thegame.game.service.auth;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.thegame.game.config.AuthProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cached copy of account-service's public JWK set, with one ready-made
+ * signature verifier per key id. Refreshed in the background; a token signed
+ * with an unknown key id (key rotation), or failing the signature check under
+ * a known one (key replaced under the same id), triggers a rate-limited refetch.
+ * If account-service is unreachable the last known keys stay in use.
+ */
+@Component
+public class JwkSetCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JwkSetCache.class);
+
+    private final RestClient restClient;
+    private final AuthProperties properties;
+
+    private volatile Map<String, JWSVerifier> verifiers = Map.of();
+    private long lastFetchAttemptNanos;
+    private boolean fetchedOnce;
+
+    public JwkSetCache(RestClient.Builder builder, AuthProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getRequestTimeoutMs());
+        requestFactory.setReadTimeout((int) properties.getRequestTimeoutMs());
+        this.restClient = builder.requestFactory(requestFactory).build();
+        this.properties = properties;
+    }
+
+    /**
+     * Verifier for the given key id, refetching the JWK set if the id is unknown.
+     */
+    public Optional<JWSVerifier> verifierFor(String keyId) {
+        JWSVerifier verifier = verifiers.get(keyId);
+        return Optional.ofNullable(verifier != null ? verifier : refetchFor(keyId));
+    }
+
+    /**
+     * Verifier for a key id whose cached verifier rejected a signature, in case
+     * the key behind the id was replaced; empty if no newer verifier is available.
+     */
+    public synchronized Optional<JWSVerifier> replacedVerifierFor(String keyId, JWSVerifier rejected) {
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier == rejected && mayRefetch()) {
+            refresh();
+            verifier = verifiers.get(keyId);
+        }
+        return verifier != rejected ? Optional.ofNullable(verifier) : Optional.empty();
+    }
+
+    public int size() {
+        return verifiers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${game.auth.jwk-set-refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        if (properties.isEnabled()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Fetch the JWK set and swap in verifiers for its RSA keys.
+     */
+    public synchronized void refresh() {
+        lastFetchAttemptNanos = System.nanoTime();
+        fetchedOnce = true;
+        try {
+            String body = restClient.get().uri(properties.getJwkSetUri()).retrieve().body(String.class);
+            Map<String, JWSVerifier> loaded = new HashMap<>();
+            for (JWK jwk : JWKSet.parse(body).getKeys()) {
+                if (jwk instanceof RSAKey rsaKey && jwk.getKeyID() != null) {
+                    loaded.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey.toRSAPublicKey()));
+                }
+            }
+            if (!loaded.keySet().equals(verifiers.keySet())) {
+                log.info("Loaded token signing keys {}", loaded.keySet());
+            }
+            verifiers = Map.copyOf(loaded);
+        } catch (ParseException | JOSEException | RuntimeException e) {
+            log.warn("Fetching JWK set from {} failed, keeping {} known keys: {}",
+                    properties.getJwkSetUri(), verifiers.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Refetch for an unknown key id, at most once per minimum refetch interval;
+     * concurrent callers wait for the same fetch instead of starting their own.
+     */
+    private synchronized JWSVerifier refetchFor(String keyId) {
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier != null) {
+            return verifier;
+        }
+        if (!mayRefetch()) {
+            return null;
+        }
+        refresh();
+        return verifiers.get(keyId);
+    }
+
+    private boolean mayRefetch() {
+        return !fetchedOnce
+                || System.nanoTime() - lastFetchAttemptNanos >= properties.getJwkSetMinRefetchIntervalMs() * 1_000_000;
+    }
+}
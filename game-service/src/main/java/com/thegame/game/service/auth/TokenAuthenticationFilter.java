@@ -0,0 +1,103 @@
+package com.thegame.game.service.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thegame.game.config.AuthProperties;
+import com.thegame.game.service.accountreplica.AccountReplicaService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Authenticates requests with an account-service access token
+ * ("Authorization: Bearer ...") verified locally, without calling
+ * account-service. The verified identity is exposed to controllers as the
+ * {@link #AUTHENTICATED_PLAYER} request attribute; the admin role is checked
+ * later by {@link AdminRoleInterceptor}, once the handler is known.
+ */
+@Component
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String AUTHENTICATED_PLAYER = "game.auth.player";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier tokenVerifier;
+    private final AccountReplicaService accountReplicaService;
+    private final AuthProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public TokenAuthenticationFilter(TokenVerifier tokenVerifier,
+                                     AccountReplicaService accountReplicaService,
+                                     AuthProperties properties,
+                                     ObjectMapper objectMapper) {
+        this.tokenVerifier = tokenVerifier;
+        this.accountReplicaService = accountReplicaService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = normalizedPath(request);
+        return properties.getPublicPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /**
+     * Request path as decoded and normalized by the servlet container, without
+     * ;path parameters - unlike the raw request URI.
+     */
+    static String normalizedPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? request.getServletPath() + pathInfo : request.getServletPath();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            reject(response, HttpServletResponse.SC_UNAUTHORIZED, "Missing bearer token");
+            return;
+        }
+
+        AuthenticatedPlayer player;
+        try {
+            player = tokenVerifier.verify(header.substring(BEARER_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            reject(response, HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
+            return;
+        }
+        // Accounts not replicated yet are let through; the token itself was valid.
+        // Deleted accounts are kept in the replica as inactive tombstones.
+        if (properties.isRejectInactiveAccounts()
+                && accountReplicaService.findAccount(player.userId()).map(account -> !account.active()).orElse(false)) {
+            reject(response, HttpServletResponse.SC_FORBIDDEN, "Account is deactivated or deleted");
+            return;
+        }
+
+        request.setAttribute(AUTHENTICATED_PLAYER, player);
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        if (status == HttpServletResponse.SC_UNAUTHORIZED) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+    }
+}
@@ -0,0 +1,12 @@
+package com.thegame.game.service.auth;
+
+/**
+ * Cost of verifying one access token: full verification (parse, RS256
+ * signature, claims) versus a hit in the verified-token cache.
+ */
+public record TokenVerificationBenchmark(
+        int iterations,
+        double fullVerificationMicros,
+        double cachedVerificationMicros,
+        double speedup) {
+}
@@ -0,0 +1,212 @@
+package com.thegame.game.service.auth;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.thegame.game.config.AuthProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies account-service access tokens locally: RS256 signature against the
+ * cached JWK set, then issuer, expiry and not-before. Successfully verified
+ * tokens are remembered until they expire, so a client sending the same
+ * token on every request pays for the signature check only once.
+ * Verification time per request is recorded in game.auth.verify, tagged by result.
+ */
+@Service
+public class TokenVerifier {
+
+    // Each iteration is a full RS256 verification (plus 10% warm-up), all on the request thread
+    private static final int MAX_BENCHMARK_ITERATIONS = 1_000;
+
+    private final JwkSetCache jwkSetCache;
+    private final AuthProperties properties;
+    private final Map<String, AuthenticatedPlayer> verifiedTokens = new ConcurrentHashMap<>();
+
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public TokenVerifier(JwkSetCache jwkSetCache, AuthProperties properties, MeterRegistry meterRegistry) {
+        this.jwkSetCache = jwkSetCache;
+        this.properties = properties;
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.verifiedTimer = verifyTimer(meterRegistry, "verified");
+        this.rejectedTimer = verifyTimer(meterRegistry, "rejected");
+        Gauge.builder("game.auth.token.cache.size", verifiedTokens, Map::size)
+                .description("Verified access tokens cached until they expire")
+                .register(meterRegistry);
+        Gauge.builder("game.auth.signing.keys", jwkSetCache, JwkSetCache::size)
+                .description("Token signing keys known from the JWK set")
+                .register(meterRegistry);
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("game.auth.verify")
+                .description("Time to authenticate one request's access token")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verify the token, from the cache when possible.
+     * Throws IllegalArgumentException when the token is not acceptable.
+     */
+    public AuthenticatedPlayer verify(String token) {
+        long start = System.nanoTime();
+        AuthenticatedPlayer cached = verifiedTokens.get(token);
+        if (cached != null && isUnexpired(cached)) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+        try {
+            AuthenticatedPlayer player = verifySignatureAndClaims(token);
+            remember(token, player);
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return player;
+        } catch (IllegalArgumentException e) {
+            if (cached != null) {
+                verifiedTokens.remove(token);
+            }
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Drop cached tokens that have expired.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        verifiedTokens.values().removeIf(player -> !isUnexpired(player));
+    }
+
+    /**
+     * Measure full verification against a cache hit for the given (valid) token.
+     * The cache is bypassed for the full verification runs.
+     */
+    public TokenVerificationBenchmark benchmark(String token, int iterations) {
+        if (iterations < 1 || iterations > MAX_BENCHMARK_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_BENCHMARK_ITERATIONS);
+        }
+        AuthenticatedPlayer player = verifySignatureAndClaims(token);
+        remember(token, player);
+
+        // Warm up both paths before timing them
+        int warmup = Math.max(1, iterations / 10);
+        for (int i = 0; i < warmup; i++) {
+            verifySignatureAndClaims(token);
+            verifiedTokens.get(token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            verifySignatureAndClaims(token);
+        }
+        double fullMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+        start = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            AuthenticatedPlayer cached = verifiedTokens.get(token);
+            if (cached != null && isUnexpired(cached)) {
+                hits++;
+            }
+        }
+        double cachedMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+        if (hits != iterations) {
+            throw new IllegalStateException("Token left the cache during the benchmark");
+        }
+        return new TokenVerificationBenchmark(iterations, fullMicros, cachedMicros,
+                cachedMicros > 0 ? fullMicros / cachedMicros : Double.POSITIVE_INFINITY);
+    }
+
+    private AuthenticatedPlayer verifySignatureAndClaims(String token) {
+        SignedJWT jwt;
+        JWTClaimsSet claims;
+        try {
+            jwt = SignedJWT.parse(token);
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Malformed access token");
+        }
+        if (!JWSAlgorithm.RS256.equals(jwt.getHeader().getAlgorithm()) || jwt.getHeader().getKeyID() == null) {
+            throw new IllegalArgumentException("Unsupported access token signature");
+        }
+        String keyId = jwt.getHeader().getKeyID();
+        JWSVerifier verifier = jwkSetCache.verifierFor(keyId)
+                .orElseThrow(() -> new IllegalArgumentException("Access token signed with an unknown key"));
+        if (!hasValidSignature(jwt, verifier)
+                && !jwkSetCache.replacedVerifierFor(keyId, verifier)
+                        .map(replaced -> hasValidSignature(jwt, replaced))
+                        .orElse(false)) {
+            throw new IllegalArgumentException("Invalid access token signature");
+        }
+
+        Instant now = Instant.now();
+        long skew = properties.getClockSkewSeconds();
+        if (!properties.getIssuer().equals(claims.getIssuer())) {
+            throw new IllegalArgumentException("Access token has the wrong issuer");
+        }
+        Date expiresAt = claims.getExpirationTime();
+        if (expiresAt == null || expiresAt.toInstant().plusSeconds(skew).isBefore(now)) {
+            throw new IllegalArgumentException("Access token expired");
+        }
+        Date notBefore = claims.getNotBeforeTime();
+        if (notBefore != null && notBefore.toInstant().minusSeconds(skew).isAfter(now)) {
+            throw new IllegalArgumentException("Access token not valid yet");
+        }
+        UUID userId;
+        String username;
+        List<String> roles;
+        try {
+            userId = UUID.fromString(claims.getSubject());
+            username = claims.getStringClaim("username");
+            roles = claims.getStringListClaim("roles");
+        } catch (ParseException | RuntimeException e) {
+            throw new IllegalArgumentException("Access token has an invalid subject");
+        }
+        return new AuthenticatedPlayer(userId, username, roles != null ? Set.copyOf(roles) : Set.of(),
+                expiresAt.toInstant().plusSeconds(skew));
+    }
+
+    private static boolean hasValidSignature(SignedJWT jwt, JWSVerifier verifier) {
+        try {
+            return jwt.verify(verifier);
+        } catch (JOSEException e) {
+            return false;
+        }
+    }
+
+    private void remember(String token, AuthenticatedPlayer player) {
+        if (verifiedTokens.size() >= properties.getTokenCacheSize()) {
+            evictExpired();
+            if (verifiedTokens.size() >= properties.getTokenCacheSize()) {
+                // Still full of live tokens: skip caching rather than grow without bound
+                return;
+            }
+        }
+        verifiedTokens.put(token, player);
+    }
+
+    private static boolean isUnexpired(AuthenticatedPlayer player) {
+        return player.expiresAt().isAfter(Instant.now());
+    }
+}
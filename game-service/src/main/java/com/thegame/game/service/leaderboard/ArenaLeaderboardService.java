@@ -0,0 +1,183 @@
+package com.thegame.game.service.leaderboard;
+
+import com.thegame.game.config.LeaderboardProperties;
+import com.thegame.game.repository.ArenaRatingCheckpointRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for the random arena leaderboard.
+ * Rank queries are answered from the {@link Leaderboard} store in O(log n);
+ * PostgreSQL only receives periodic checkpoints of ratings that changed since
+ * the previous checkpoint, and is read once on startup to rebuild the board.
+ */
+@Service
+public class ArenaLeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArenaLeaderboardService.class);
+
+    private final Leaderboard leaderboard;
+    private final ArenaRatingCheckpointRepository checkpointRepository;
+    private final LeaderboardProperties properties;
+    private final Timer checkpointTimer;
+    private final Timer rebuildTimer;
+
+    // Players whose rating changed (or who were removed) since the last checkpoint
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+
+    public ArenaLeaderboardService(Leaderboard leaderboard,
+                                   ArenaRatingCheckpointRepository checkpointRepository,
+                                   LeaderboardProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.leaderboard = leaderboard;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.checkpointTimer = Timer.builder("game.leaderboard.checkpoint")
+                .description("Time to checkpoint changed arena ratings to PostgreSQL")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("game.leaderboard.rebuild")
+                .description("Time to rebuild the arena leaderboard from the checkpoint table")
+                .register(meterRegistry);
+        Gauge.builder("game.leaderboard.size", leaderboard, Leaderboard::size)
+                .description("Players ranked on the arena leaderboard")
+                .register(meterRegistry);
+        Gauge.builder("game.leaderboard.dirty", dirtyPlayers, Set::size)
+                .description("Rating changes not yet checkpointed to PostgreSQL")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuild the leaderboard from the last checkpoint.
+     * A shared Redis board that already holds data is newer than the checkpoint,
+     * so it is left untouched.
+     */
+    @PostConstruct
+    public void rebuild() {
+        if (leaderboard.size() > 0) {
+            log.info("Arena leaderboard already holds {} players, skipping rebuild", leaderboard.size());
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        long loaded = checkpointRepository.forEach(leaderboard::updateScore);
+        sample.stop(rebuildTimer);
+        log.info("Arena leaderboard rebuilt from checkpoint with {} players", loaded);
+    }
+
+    /**
+     * Set a player's arena rating (e.g. after a battle is resolved).
+     */
+    public void updateRating(UUID playerId, long rating) {
+        leaderboard.updateScore(playerId, rating);
+        dirtyPlayers.add(playerId);
+    }
+
+    /**
+     * Remove a player from the arena (e.g. account deleted).
+     */
+    public void removePlayer(UUID playerId) {
+        if (leaderboard.remove(playerId)) {
+            dirtyPlayers.add(playerId);
+        }
+    }
+
+    /**
+     * Current rating, or the configured default for unranked players.
+     */
+    public long getRating(UUID playerId) {
+        OptionalLong score = leaderboard.score(playerId);
+        return score.orElse(properties.getDefaultRating());
+    }
+
+    public Optional<LeaderboardEntry> getEntry(UUID playerId) {
+        return leaderboard.entry(playerId);
+    }
+
+    public List<LeaderboardEntry> getTop(int limit) {
+        return leaderboard.top(checkPageSize(limit));
+    }
+
+    /**
+     * Players ranked within radius positions of the given player (inclusive).
+     */
+    public List<LeaderboardEntry> getNeighbors(UUID playerId, int radius) {
+        int checkedRadius = checkPageSize(radius);
+        return leaderboard.entry(playerId)
+                .map(entry -> leaderboard.aroundRank(entry.rank(), checkedRadius))
+                .orElse(List.of());
+    }
+
+    public List<LeaderboardEntry> getAroundRank(long rank, int radius) {
+        if (rank < 1) {
+            throw new IllegalArgumentException("Rank must be at least 1");
+        }
+        return leaderboard.aroundRank(rank, checkPageSize(radius));
+    }
+
+    public long getPlayerCount() {
+        return leaderboard.size();
+    }
+
+    /**
+     * Write ratings changed since the last checkpoint to PostgreSQL.
+     * A player is removed from the dirty set before their rating is read, so an
+     * update racing with the checkpoint is simply picked up by the next one.
+     */
+    @Scheduled(fixedDelayString = "${game.leaderboard.checkpoint-interval-ms:30000}")
+    public synchronized void checkpoint() {
+        if (dirtyPlayers.isEmpty()) {
+            return;
+        }
+        checkpointTimer.record(() -> {
+            Map<UUID, Long> ratings = new HashMap<>();
+            List<UUID> removed = new ArrayList<>();
+            for (UUID playerId : List.copyOf(dirtyPlayers)) {
+                dirtyPlayers.remove(playerId);
+                OptionalLong score = leaderboard.score(playerId);
+                if (score.isPresent()) {
+                    ratings.put(playerId, score.getAsLong());
+                } else {
+                    removed.add(playerId);
+                }
+            }
+            try {
+                checkpointRepository.upsertAll(ratings);
+                checkpointRepository.deleteAll(removed);
+                log.debug("Checkpointed {} arena ratings ({} removed)", ratings.size(), removed.size());
+            } catch (RuntimeException e) {
+                // Retry these players on the next run
+                dirtyPlayers.addAll(ratings.keySet());
+                dirtyPlayers.addAll(removed);
+                log.warn("Arena leaderboard checkpoint failed, will retry: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private int checkPageSize(int size) {
+        if (size < 0 || size > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException("Size must be between 0 and " + properties.getMaxPageSize());
+        }
+        return size;
+    }
+}
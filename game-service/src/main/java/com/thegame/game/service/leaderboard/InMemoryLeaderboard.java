@@ -0,0 +1,271 @@
+package com.thegame.game.service.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process leaderboard backed by an order-statistic treap (each node tracks
+ * its subtree size), giving O(log n) updates, rank lookups and rank selection.
+ * A read/write lock lets rank and range queries run concurrently with each other;
+ * score updates take the write lock only for the O(log n) tree surgery.
+ */
+public class InMemoryLeaderboard implements Leaderboard {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private Node root;
+
+    @Override
+    public void updateScore(UUID playerId, long score) {
+        Node node = new Node(playerId, score, ThreadLocalRandom.current().nextInt());
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.put(playerId, node);
+            if (existing != null) {
+                if (existing.score == score) {
+                    nodes.put(playerId, existing);
+                    return;
+                }
+                root = delete(root, existing.score, existing.member);
+            }
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(UUID playerId) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodes.remove(playerId);
+            if (existing == null) {
+                return false;
+            }
+            root = delete(root, existing.score, existing.member);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public OptionalLong score(UUID playerId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(playerId);
+            return node != null ? OptionalLong.of(node.score) : OptionalLong.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> entry(UUID playerId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(playerId);
+            if (node == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new LeaderboardEntry(playerId, node.score, rankOf(node.score, node.member) + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeaderboardEntry> range(long fromRank, long toRank) {
+        lock.readLock().lock();
+        try {
+            long from = Math.max(1, fromRank);
+            long to = Math.min(toRank, size(root));
+            if (from > to) {
+                return List.of();
+            }
+
+            // Walk down to the from-th node, remembering the ancestors still to visit in order
+            Deque<Node> stack = new ArrayDeque<>();
+            Node current = root;
+            long k = from - 1;
+            while (current != null) {
+                long leftSize = size(current.left);
+                if (k < leftSize) {
+                    stack.push(current);
+                    current = current.left;
+                } else if (k == leftSize) {
+                    stack.push(current);
+                    break;
+                } else {
+                    k -= leftSize + 1;
+                    current = current.right;
+                }
+            }
+
+            List<LeaderboardEntry> result = new ArrayList<>((int) (to - from + 1));
+            long rank = from;
+            while (!stack.isEmpty() && rank <= to) {
+                Node node = stack.pop();
+                result.add(new LeaderboardEntry(node.playerId, node.score, rank++));
+                for (Node next = node.right; next != null; next = next.left) {
+                    stack.push(next);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- treap internals (callers hold the lock) ----
+
+    /**
+     * Number of nodes ordered before (score, member).
+     */
+    private long rankOf(long score, String member) {
+        long rank = 0;
+        Node current = root;
+        while (current != null) {
+            int cmp = compare(score, member, current);
+            if (cmp == 0) {
+                return rank + size(current.left);
+            } else if (cmp < 0) {
+                current = current.left;
+            } else {
+                rank += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Order: higher score first, then descending member string (same as Redis reverse ordering).
+     */
+    private static int compare(long score, String member, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return node.member.compareTo(member);
+    }
+
+    private static Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.priority > tree.priority) {
+            Node[] parts = split(tree, node.score, node.member);
+            node.left = parts[0];
+            node.right = parts[1];
+            node.update();
+            return node;
+        }
+        if (compare(node.score, node.member, tree) < 0) {
+            tree.left = insert(tree.left, node);
+        } else {
+            tree.right = insert(tree.right, node);
+        }
+        tree.update();
+        return tree;
+    }
+
+    private static Node delete(Node tree, long score, String member) {
+        if (tree == null) {
+            return null;
+        }
+        int cmp = compare(score, member, tree);
+        if (cmp == 0) {
+            return merge(tree.left, tree.right);
+        }
+        if (cmp < 0) {
+            tree.left = delete(tree.left, score, member);
+        } else {
+            tree.right = delete(tree.right, score, member);
+        }
+        tree.update();
+        return tree;
+    }
+
+    /**
+     * Split into [nodes ordered before key, nodes ordered at or after key].
+     */
+    private static Node[] split(Node tree, long score, String member) {
+        if (tree == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, member, tree) <= 0) {
+            Node[] parts = split(tree.left, score, member);
+            tree.left = parts[1];
+            tree.update();
+            return new Node[]{parts[0], tree};
+        }
+        Node[] parts = split(tree.right, score, member);
+        tree.right = parts[0];
+        tree.update();
+        return new Node[]{tree, parts[1]};
+    }
+
+    /**
+     * Merge two treaps where every node of left is ordered before every node of right.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static long size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node {
+        private final UUID playerId;
+        private final String member;
+        private final long score;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(UUID playerId, long score, int priority) {
+            this.playerId = playerId;
+            this.member = playerId.toString();
+            this.score = score;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + (left != null ? left.size : 0) + (right != null ? right.size : 0);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.thegame.game.service.leaderboard;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Ranked set of players ordered by score, highest first.
+ * Ties are broken by player id (descending string order, matching Redis ZREVRANK),
+ * so every player has a distinct, stable rank.
+ * All operations are expected to run in O(log n) (plus the size of the returned range).
+ */
+public interface Leaderboard {
+
+    /**
+     * Insert the player or replace their score.
+     */
+    void updateScore(UUID playerId, long score);
+
+    /**
+     * Remove the player; returns false if they were not ranked.
+     */
+    boolean remove(UUID playerId);
+
+    OptionalLong score(UUID playerId);
+
+    /**
+     * The player's score and 1-based rank, if ranked.
+     */
+    Optional<LeaderboardEntry> entry(UUID playerId);
+
+    /**
+     * Entries with ranks in [fromRank, toRank], both 1-based and inclusive.
+     */
+    List<LeaderboardEntry> range(long fromRank, long toRank);
+
+    long size();
+
+    default List<LeaderboardEntry> top(int limit) {
+        return limit <= 0 ? List.of() : range(1, limit);
+    }
+
+    /**
+     * Entries within radius positions of the given rank, clipped to the board.
+     */
+    default List<LeaderboardEntry> aroundRank(long rank, int radius) {
+        return range(Math.max(1, rank - radius), rank + radius);
+    }
+}
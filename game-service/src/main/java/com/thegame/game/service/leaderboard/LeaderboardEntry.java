@@ -0,0 +1,9 @@
+package com.thegame.game.service.leaderboard;
+
+import java.util.UUID;
+
+/**
+ * A player's position on a leaderboard. Rank is 1-based (1 = highest score).
+ */
+public record LeaderboardEntry(UUID playerId, long score, long rank) {
+}
@@ -0,0 +1,85 @@
+package com.thegame.game.service.leaderboard;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Leaderboard stored in a Redis sorted set, shared by all game-service instances.
+ * Scores are stored as doubles, which is exact for ratings up to 2^53.
+ */
+public class RedisLeaderboard implements Leaderboard {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+
+    public RedisLeaderboard(StringRedisTemplate redisTemplate, String key) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+    }
+
+    @Override
+    public void updateScore(UUID playerId, long score) {
+        zSet().add(key, playerId.toString(), score);
+    }
+
+    @Override
+    public boolean remove(UUID playerId) {
+        Long removed = zSet().remove(key, playerId.toString());
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public OptionalLong score(UUID playerId) {
+        Double score = zSet().score(key, playerId.toString());
+        return score != null ? OptionalLong.of(score.longValue()) : OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> entry(UUID playerId) {
+        // ZSCORE and ZREVRANK are two round trips; a concurrent update in between
+        // can only make the pair momentarily inconsistent, never corrupt the set.
+        String member = playerId.toString();
+        Double score = zSet().score(key, member);
+        Long rank = zSet().reverseRank(key, member);
+        if (score == null || rank == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardEntry(playerId, score.longValue(), rank + 1));
+    }
+
+    @Override
+    public List<LeaderboardEntry> range(long fromRank, long toRank) {
+        long from = Math.max(1, fromRank);
+        if (from > toRank) {
+            return List.of();
+        }
+        Set<TypedTuple<String>> tuples = zSet().reverseRangeWithScores(key, from - 1, toRank - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<LeaderboardEntry> result = new ArrayList<>(tuples.size());
+        long rank = from;
+        for (TypedTuple<String> tuple : tuples) {
+            result.add(new LeaderboardEntry(UUID.fromString(tuple.getValue()), tuple.getScore().longValue(), rank++));
+        }
+        return result;
+    }
+
+    @Override
+    public long size() {
+        Long size = zSet().zCard(key);
+        return size != null ? size : 0;
+    }
+
+    private ZSetOperations<String, String> zSet() {
+        return redisTemplate.opsForZSet();
+    }
+}
@@ -0,0 +1,16 @@
+package com.thegame.game.service.matchmaking;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A pairing produced by the matchmaker.
+ */
+public record ArenaMatch(
+        UUID matchId,
+        UUID playerId,
+        long playerRating,
+        UUID opponentId,
+        long opponentRating,
+        Instant matchedAt) {
+}
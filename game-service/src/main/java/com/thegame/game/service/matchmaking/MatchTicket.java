@@ -0,0 +1,103 @@
+package com.thegame.game.service.matchmaking;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A player waiting in the matchmaking queue.
+ * The state only moves away from WAITING through a compare-and-set, so a
+ * ticket can be matched or cancelled exactly once without any locking.
+ * While the matcher pairs two tickets both are briefly RESERVED; cancels and
+ * status reads spin until the reservation is either confirmed or released.
+ */
+public final class MatchTicket {
+
+    static final int WAITING = 0;
+    static final int RESERVED = 1;
+    static final int MATCHED = 2;
+    static final int CANCELLED = 3;
+
+    private final UUID playerId;
+    private final long rating;
+    private final Instant enqueuedAt;
+    private final long enqueuedNanos;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    MatchTicket(UUID playerId, long rating) {
+        this.playerId = playerId;
+        this.rating = rating;
+        this.enqueuedAt = Instant.now();
+        this.enqueuedNanos = System.nanoTime();
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public long getRating() {
+        return rating;
+    }
+
+    public Instant getEnqueuedAt() {
+        return enqueuedAt;
+    }
+
+    long getEnqueuedNanos() {
+        return enqueuedNanos;
+    }
+
+    public long waitedNanos(long nowNanos) {
+        return nowNanos - enqueuedNanos;
+    }
+
+    boolean isWaiting() {
+        return state.get() == WAITING;
+    }
+
+    /**
+     * Matched or cancelled; the ticket will never wait again.
+     */
+    boolean isFinished() {
+        return state.get() >= MATCHED;
+    }
+
+    boolean reserve() {
+        return state.compareAndSet(WAITING, RESERVED);
+    }
+
+    void release() {
+        state.compareAndSet(RESERVED, WAITING);
+    }
+
+    void confirm() {
+        state.compareAndSet(RESERVED, MATCHED);
+    }
+
+    /**
+     * Cancel a waiting ticket; waits out a reservation in progress, since it
+     * may still be released back to WAITING.
+     */
+    boolean cancel() {
+        while (true) {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                return true;
+            }
+            if (state.get() != RESERVED) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Current state once no reservation is in progress.
+     */
+    int awaitUnreserved() {
+        int current;
+        while ((current = state.get()) == RESERVED) {
+            Thread.onSpinWait();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,286 @@
+package com.thegame.game.service.matchmaking;
+
+import com.thegame.game.config.MatchmakingProperties;
+import com.thegame.game.service.leaderboard.ArenaLeaderboardService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rating-bucketed matchmaking for the random arena.
+ * Queued players are kept in memory in per-bucket lock-free queues
+ * (bucket = rating / bucketWidth), so joining or leaving the queue never
+ * contends on a shared lock. A scheduled pass matches waiting players in
+ * batches, oldest first, searching outward from their own bucket; the
+ * accepted rating difference widens the longer a player waits.
+ */
+@Service
+public class MatchmakingService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchmakingService.class);
+
+    private final ArenaLeaderboardService arenaLeaderboardService;
+    private final MatchmakingProperties properties;
+
+    private final Map<UUID, MatchTicket> tickets = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<MatchTicket>> buckets = new ConcurrentHashMap<>();
+    private final Map<UUID, ArenaMatch> matches = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter matchCounter;
+    private final Counter timeoutCounter;
+    private final Timer passTimer;
+    private volatile double matchesPerSecond;
+    private volatile long lastPassNanos = System.nanoTime();
+
+    public MatchmakingService(ArenaLeaderboardService arenaLeaderboardService,
+                              MatchmakingProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.arenaLeaderboardService = arenaLeaderboardService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.matchCounter = Counter.builder("game.matchmaking.matches")
+                .description("Arena matches created")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("game.matchmaking.timeouts")
+                .description("Tickets dropped after waiting too long")
+                .register(meterRegistry);
+        this.passTimer = Timer.builder("game.matchmaking.pass")
+                .description("Duration of one batch matching pass")
+                .register(meterRegistry);
+        Gauge.builder("game.matchmaking.queue.depth", tickets, Map::size)
+                .description("Players waiting in the arena queue")
+                .register(meterRegistry);
+        Gauge.builder("game.matchmaking.matches.rate", this, service -> service.matchesPerSecond)
+                .description("Matches per second over the last matching pass")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Put a player in the arena queue at their current leaderboard rating.
+     * Joining again while already queued keeps the original ticket.
+     */
+    public MatchmakingStatus enqueue(UUID playerId) {
+        long rating = arenaLeaderboardService.getRating(playerId);
+        MatchTicket ticket = new MatchTicket(playerId, rating);
+        MatchTicket existing = tickets.putIfAbsent(playerId, ticket);
+        if (existing != null) {
+            return getStatus(playerId);
+        }
+        matches.remove(playerId);
+        buckets.computeIfAbsent(bucketOf(rating), b -> new ConcurrentLinkedQueue<>()).offer(ticket);
+        log.debug("Player {} queued for arena at rating {}", playerId, rating);
+        return queuedStatus(ticket, System.nanoTime());
+    }
+
+    /**
+     * Remove a player from the queue; returns false if they were not waiting.
+     * The ticket is only flagged here and dropped from its bucket lazily by the matcher.
+     */
+    public boolean cancel(UUID playerId) {
+        MatchTicket ticket = tickets.get(playerId);
+        if (ticket == null || !ticket.cancel()) {
+            return false;
+        }
+        tickets.remove(playerId, ticket);
+        recordWait(ticket, "cancelled", System.nanoTime());
+        return true;
+    }
+
+    public MatchmakingStatus getStatus(UUID playerId) {
+        MatchTicket ticket = tickets.get(playerId);
+        if (ticket != null && ticket.awaitUnreserved() == MatchTicket.WAITING) {
+            return queuedStatus(ticket, System.nanoTime());
+        }
+        // A confirmed ticket's match is published before the ticket is dropped
+        ArenaMatch match = matches.get(playerId);
+        if (match != null) {
+            return MatchmakingStatus.matched(match);
+        }
+        return MatchmakingStatus.notQueued(playerId);
+    }
+
+    public int getQueueDepth() {
+        return tickets.size();
+    }
+
+    public double getMatchesPerSecond() {
+        return matchesPerSecond;
+    }
+
+    /**
+     * One batch matching pass. Runs on the scheduler only, so there is a single
+     * matcher; the per-ticket compare-and-set only has to guard against cancels.
+     */
+    @Scheduled(fixedDelayString = "${game.matchmaking.match-interval-ms:1000}")
+    public void matchQueuedPlayers() {
+        passTimer.record(() -> {
+            long now = System.nanoTime();
+            expireMatches();
+
+            List<MatchTicket> batch = tickets.values().stream()
+                    .filter(MatchTicket::isWaiting)
+                    .sorted(Comparator.comparingLong(MatchTicket::getEnqueuedNanos))
+                    .limit(properties.getMaxBatchSize())
+                    .toList();
+
+            int matched = 0;
+            long timeoutNanos = TimeUnit.SECONDS.toNanos(properties.getTicketTimeoutSeconds());
+            for (MatchTicket ticket : batch) {
+                if (!ticket.isWaiting()) {
+                    continue; // matched earlier in this pass or cancelled
+                }
+                if (ticket.waitedNanos(now) > timeoutNanos) {
+                    if (ticket.cancel()) {
+                        tickets.remove(ticket.getPlayerId(), ticket);
+                        timeoutCounter.increment();
+                        recordWait(ticket, "timeout", now);
+                    }
+                    continue;
+                }
+                MatchTicket opponent = findOpponent(ticket, now);
+                if (opponent != null && createMatch(ticket, opponent, now)) {
+                    matched++;
+                }
+            }
+
+            double elapsedSeconds = (now - lastPassNanos) / 1_000_000_000.0;
+            lastPassNanos = now;
+            matchesPerSecond = elapsedSeconds > 0 ? matched / elapsedSeconds : 0;
+            if (matched > 0) {
+                log.debug("Matchmaking pass created {} matches from {} waiting tickets", matched, batch.size());
+            }
+        });
+    }
+
+    /**
+     * Search buckets outward from the ticket's own bucket and return the first
+     * waiting player both sides accept, or null. Buckets are visited nearest
+     * first, so the opponent is the closest available up to bucket granularity.
+     */
+    private MatchTicket findOpponent(MatchTicket ticket, long now) {
+        long window = ratingWindow(ticket, now);
+        long center = bucketOf(ticket.getRating());
+        long maxDistance = Math.max(center - bucketOf(ticket.getRating() - window),
+                bucketOf(ticket.getRating() + window) - center);
+
+        for (long distance = 0; distance <= maxDistance; distance++) {
+            MatchTicket candidate = scanBucket(center - distance, ticket, window, now);
+            if (candidate == null && distance > 0) {
+                candidate = scanBucket(center + distance, ticket, window, now);
+            }
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private MatchTicket scanBucket(long bucket, MatchTicket ticket, long window, long now) {
+        Queue<MatchTicket> queue = buckets.get(bucket);
+        if (queue == null) {
+            return null;
+        }
+        Iterator<MatchTicket> it = queue.iterator();
+        while (it.hasNext()) {
+            MatchTicket candidate = it.next();
+            if (candidate.isFinished()) {
+                it.remove(); // lazily drop matched, cancelled and timed out tickets
+                continue;
+            }
+            if (!candidate.isWaiting()) {
+                continue;
+            }
+            if (candidate == ticket) {
+                continue;
+            }
+            long difference = Math.abs(candidate.getRating() - ticket.getRating());
+            if (difference <= window && difference <= ratingWindow(candidate, now)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserve both tickets, publish the match, then confirm. A cancel racing
+     * with the reservation waits for the outcome instead of failing, and is
+     * honoured if the other side could not be reserved.
+     */
+    private boolean createMatch(MatchTicket ticket, MatchTicket opponent, long now) {
+        if (!ticket.reserve()) {
+            return false;
+        }
+        if (!opponent.reserve()) {
+            ticket.release();
+            return false;
+        }
+        UUID matchId = UUID.randomUUID();
+        Instant matchedAt = Instant.now();
+        matches.put(ticket.getPlayerId(), new ArenaMatch(matchId, ticket.getPlayerId(), ticket.getRating(),
+                opponent.getPlayerId(), opponent.getRating(), matchedAt));
+        matches.put(opponent.getPlayerId(), new ArenaMatch(matchId, opponent.getPlayerId(), opponent.getRating(),
+                ticket.getPlayerId(), ticket.getRating(), matchedAt));
+        // Publish the match before confirming and dropping the tickets so status polls never see a gap
+        ticket.confirm();
+        opponent.confirm();
+        tickets.remove(ticket.getPlayerId(), ticket);
+        tickets.remove(opponent.getPlayerId(), opponent);
+
+        matchCounter.increment();
+        recordWait(ticket, "matched", now);
+        recordWait(opponent, "matched", now);
+        return true;
+    }
+
+    private void expireMatches() {
+        Instant cutoff = Instant.now().minusSeconds(properties.getMatchRetentionSeconds());
+        matches.values().removeIf(match -> match.matchedAt().isBefore(cutoff));
+    }
+
+    /**
+     * Accepted rating difference: grows linearly with waiting time up to maxWindow.
+     */
+    private long ratingWindow(MatchTicket ticket, long now) {
+        long waitedSeconds = TimeUnit.NANOSECONDS.toSeconds(ticket.waitedNanos(now));
+        long window = properties.getInitialWindow() + waitedSeconds * properties.getWindowGrowthPerSecond();
+        return Math.min(window, properties.getMaxWindow());
+    }
+
+    private long bucketOf(long rating) {
+        return Math.floorDiv(rating, properties.getBucketWidth());
+    }
+
+    private MatchmakingStatus queuedStatus(MatchTicket ticket, long now) {
+        return MatchmakingStatus.queued(ticket.getPlayerId(), ticket.getRating(),
+                TimeUnit.NANOSECONDS.toSeconds(ticket.waitedNanos(now)), ratingWindow(ticket, now));
+    }
+
+    private void recordWait(MatchTicket ticket, String outcome, long now) {
+        Timer.builder("game.matchmaking.wait")
+                .description("Time players spent in the arena queue")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(100))
+                .maximumExpectedValue(Duration.ofSeconds(properties.getTicketTimeoutSeconds()))
+                .register(meterRegistry)
+                .record(ticket.waitedNanos(now), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.thegame.game.service.matchmaking;
+
+import java.util.UUID;
+
+/**
+ * Queue status of a player as seen by the client while polling.
+ */
+public record MatchmakingStatus(
+        UUID playerId,
+        State state,
+        Long rating,
+        Long waitedSeconds,
+        Long ratingWindow,
+        ArenaMatch match) {
+
+    public enum State {
+        NOT_QUEUED,
+        QUEUED,
+        MATCHED
+    }
+
+    static MatchmakingStatus notQueued(UUID playerId) {
+        return new MatchmakingStatus(playerId, State.NOT_QUEUED, null, null, null, null);
+    }
+
+    static MatchmakingStatus queued(UUID playerId, long rating, long waitedSeconds, long ratingWindow) {
+        return new MatchmakingStatus(playerId, State.QUEUED, rating, waitedSeconds, ratingWindow, null);
+    }
+
+    static MatchmakingStatus matched(ArenaMatch match) {
+        return new MatchmakingStatus(match.playerId(), State.MATCHED, match.playerRating(), null, null, match);
+    }
+}
@@ -0,0 +1,120 @@
+package com.thegame.game.service.progression;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Coalesced, not yet persisted state of one player.
+ * Null fields were not changed and are left alone by the flush.
+ * Not thread-safe; guarded by the write-behind buffer's lock.
+ */
+public class PendingPlayerProgress {
+
+    private final UUID playerId;
+    private Integer campaignStage;
+    private Integer playerLevel;
+    private Long experience;
+    private Long gold;
+    private Instant idleCollectedAt;
+    private final Map<UUID, PendingHero> heroes = new LinkedHashMap<>();
+    private long lastSequence;
+    private Instant firstRecordedAt;
+
+    PendingPlayerProgress(UUID playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * Apply a change on top of the current state (changes arrive in sequence order).
+     */
+    void apply(ProgressionChange change) {
+        if (change.campaignStage() != null) {
+            campaignStage = change.campaignStage();
+        }
+        if (change.playerLevel() != null) {
+            playerLevel = change.playerLevel();
+        }
+        if (change.experience() != null) {
+            experience = change.experience();
+        }
+        if (change.gold() != null) {
+            gold = change.gold();
+        }
+        if (change.idleCollectedAt() != null) {
+            idleCollectedAt = change.idleCollectedAt();
+        }
+        if (change.heroId() != null) {
+            heroes.put(change.heroId(), new PendingHero(change.heroId(), change.heroTemplateId(), change.heroLevel()));
+        }
+        lastSequence = change.sequence();
+        if (firstRecordedAt == null) {
+            firstRecordedAt = change.recordedAt();
+        }
+    }
+
+    /**
+     * Fold in state from an older batch that failed to flush; fields already
+     * set here are newer and win.
+     */
+    void mergeOlder(PendingPlayerProgress older) {
+        if (campaignStage == null) {
+            campaignStage = older.campaignStage;
+        }
+        if (playerLevel == null) {
+            playerLevel = older.playerLevel;
+        }
+        if (experience == null) {
+            experience = older.experience;
+        }
+        if (gold == null) {
+            gold = older.gold;
+        }
+        if (idleCollectedAt == null) {
+            idleCollectedAt = older.idleCollectedAt;
+        }
+        older.heroes.forEach(heroes::putIfAbsent);
+        lastSequence = Math.max(lastSequence, older.lastSequence);
+        firstRecordedAt = older.firstRecordedAt;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public Integer getCampaignStage() {
+        return campaignStage;
+    }
+
+    public Integer getPlayerLevel() {
+        return playerLevel;
+    }
+
+    public Long getExperience() {
+        return experience;
+    }
+
+    public Long getGold() {
+        return gold;
+    }
+
+    public Instant getIdleCollectedAt() {
+        return idleCollectedAt;
+    }
+
+    public Iterable<PendingHero> getHeroes() {
+        return heroes.values();
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public Instant getFirstRecordedAt() {
+        return firstRecordedAt;
+    }
+
+    public record PendingHero(UUID heroId, int templateId, int level) {
+    }
+}
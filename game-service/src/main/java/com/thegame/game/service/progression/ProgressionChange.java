@@ -0,0 +1,51 @@
+package com.thegame.game.service.progression;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One player progression change, as recorded in the write-behind journal.
+ * Changes carry the resulting absolute values (not deltas), so coalescing is
+ * last-write-wins per field and replaying a journal that was already partly
+ * flushed is harmless.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProgressionChange(
+        long sequence,
+        Type type,
+        UUID playerId,
+        Instant recordedAt,
+        Integer campaignStage,
+        Integer playerLevel,
+        Long experience,
+        Long gold,
+        Instant idleCollectedAt,
+        UUID heroId,
+        Integer heroTemplateId,
+        Integer heroLevel) {
+
+    public enum Type {
+        STAGE_CLEARED,
+        IDLE_COLLECTED,
+        HERO_LEVELED
+    }
+
+    static ProgressionChange stageCleared(long sequence, UUID playerId, int campaignStage) {
+        return new ProgressionChange(sequence, Type.STAGE_CLEARED, playerId, Instant.now(),
+                campaignStage, null, null, null, null, null, null, null);
+    }
+
+    static ProgressionChange idleCollected(long sequence, UUID playerId, int playerLevel, long experience,
+                                           long gold, Instant collectedAt) {
+        return new ProgressionChange(sequence, Type.IDLE_COLLECTED, playerId, Instant.now(),
+                null, playerLevel, experience, gold, collectedAt, null, null, null);
+    }
+
+    static ProgressionChange heroLeveled(long sequence, UUID playerId, UUID heroId, int heroTemplateId,
+                                         int heroLevel) {
+        return new ProgressionChange(sequence, Type.HERO_LEVELED, playerId, Instant.now(),
+                null, null, null, null, null, heroId, heroTemplateId, heroLevel);
+    }
+}
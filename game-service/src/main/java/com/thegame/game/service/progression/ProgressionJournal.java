@@ -0,0 +1,242 @@
+package com.thegame.game.service.progression;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Local append-only journal of progression changes, one JSON object per line.
+ * The journal is split into segments named by their first sequence number;
+ * the write-behind buffer rotates to a new segment whenever it starts a flush
+ * and deletes older segments once their changes are committed to PostgreSQL.
+ * A failed append is rolled back, so the next entry never shares a line with
+ * a partly written one.
+ * Not thread-safe; the buffer serializes all calls.
+ */
+class ProgressionJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressionJournal.class);
+
+    private static final String SEGMENT_PREFIX = "progression-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+
+    private Path currentSegment;
+    private FileChannel channel;
+    private long segmentEntries;
+    // Bytes of complete entries in the open segment; a failed append is truncated back to it
+    private long segmentSize;
+
+    ProgressionJournal(Path directory, ObjectMapper objectMapper, boolean fsync) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Read every change from existing segments, oldest first.
+     * A torn last line (crash mid-write) is skipped.
+     */
+    List<ProgressionChange> replay() {
+        List<ProgressionChange> changes = new ArrayList<>();
+        for (Path segment : existingSegments()) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        changes.add(objectMapper.readValue(line, ProgressionChange.class));
+                    } catch (JsonProcessingException e) {
+                        log.warn("Skipping unreadable journal entry in {}: {}", segment.getFileName(), e.getMessage());
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to replay journal segment " + segment, e);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Remove segments left empty by a previous run; they hold no changes and
+     * their names can collide with the next segment.
+     */
+    void deleteEmptySegments() {
+        for (Path segment : existingSegments()) {
+            try {
+                if (Files.size(segment) == 0) {
+                    Files.delete(segment);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to clean up journal segment " + segment, e);
+            }
+        }
+    }
+
+    /**
+     * Segments currently on disk, ordered by first sequence number.
+     */
+    List<Path> existingSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(ProgressionJournal::firstSequence))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list journal directory " + directory, e);
+        }
+    }
+
+    /**
+     * Append one change (entry and newline in a single write) to the open segment.
+     * On failure the change is not journaled and the segment is left ending
+     * with the previous complete entry.
+     */
+    void append(ProgressionChange change) {
+        if (channel == null) {
+            throw new IllegalStateException("Journal has no open segment in " + directory);
+        }
+        ByteBuffer entry;
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(change);
+            entry = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to serialize progression change " + change.sequence(), e);
+        }
+        try {
+            while (entry.hasRemaining()) {
+                channel.write(entry);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            segmentEntries++;
+            segmentSize += entry.limit();
+        } catch (IOException e) {
+            discardFailedAppend(change.sequence());
+            throw new UncheckedIOException("Failed to append to journal segment " + currentSegment, e);
+        }
+    }
+
+    /**
+     * Cut a partly written entry off the open segment. If that fails too,
+     * switch to a fresh segment starting at the failed sequence (the buffer
+     * reuses it for the next change); the torn line stays last in the old
+     * segment, where replay skips it. Without any open segment appends are
+     * rejected until the next rotation.
+     */
+    private void discardFailedAppend(long failedSequence) {
+        try {
+            channel.truncate(segmentSize);
+            return;
+        } catch (IOException e) {
+            log.warn("Failed to truncate journal segment {} after a failed append, switching segments: {}",
+                    currentSegment, e.getMessage());
+        }
+        Path broken = currentSegment;
+        boolean hadEntries = segmentEntries > 0;
+        close();
+        try {
+            if (!hadEntries) {
+                // Holds nothing but the torn entry, and the fresh segment would get its name
+                Files.deleteIfExists(broken);
+            }
+            open(failedSequence);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to open a fresh journal segment in {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Close the open segment (if any) and start a new one whose first entry
+     * will be nextSequence. An open segment without entries is kept as is -
+     * its name would collide with the new one.
+     */
+    void rotate(long nextSequence) {
+        if (channel != null && segmentEntries == 0) {
+            return;
+        }
+        close();
+        open(nextSequence);
+    }
+
+    private void open(long firstSequence) {
+        try {
+            Files.createDirectories(directory);
+            Path segment = directory.resolve(SEGMENT_PREFIX + firstSequence + SEGMENT_SUFFIX);
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            currentSegment = segment;
+            segmentEntries = 0;
+            segmentSize = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal segment in " + directory, e);
+        }
+    }
+
+    /**
+     * Delete closed segments whose entries all have a sequence below the given
+     * one (i.e. are committed), oldest first. Stops at the first failure so a
+     * newer segment is never removed while an older one survives - replaying
+     * an old segment alone after a restart could roll values back.
+     */
+    void deleteSegmentsBefore(long sequence) {
+        for (Path segment : existingSegments()) {
+            if (firstSequence(segment) >= sequence) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("Failed to delete flushed journal segment {}: {}", segment, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close journal segment {}: {}", currentSegment, e.getMessage());
+        } finally {
+            channel = null;
+            currentSegment = null;
+        }
+    }
+
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
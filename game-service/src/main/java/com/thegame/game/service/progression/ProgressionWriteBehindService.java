@@ -0,0 +1,294 @@
+package com.thegame.game.service.progression;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thegame.game.config.WriteBehindProperties;
+import com.thegame.game.repository.PlayerProgressionRepository;
+import com.thegame.game.repository.PlayerProgressionRepository.HeroRow;
+import com.thegame.game.repository.PlayerProgressionRepository.PlayerRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * Write-behind buffer for player progression (campaign stage clears, idle
+ * collects, hero level-ups).
+ * Each change is appended to a local journal and coalesced in memory per
+ * player; the buffer is flushed as batched upserts (one per shard, ordered by
+ * player id) every flush interval or as soon as enough players are pending. After a
+ * crash the journal is replayed on startup, so an acknowledged change is
+ * never lost even if it had not reached PostgreSQL yet.
+ * Note that game_db lags the buffer by up to one flush interval; code that
+ * needs a player's latest state must not read it back from the database.
+ */
+@Service
+public class ProgressionWriteBehindService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressionWriteBehindService.class);
+
+    private final PlayerProgressionRepository repository;
+    private final WriteBehindProperties properties;
+    private final ProgressionJournal journal;
+
+    // Guards pending, nextSequence, oldestPendingAt and all journal appends/rotations
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<UUID, PendingPlayerProgress> pending = new HashMap<>();
+    private long nextSequence = 1;
+    private volatile Instant oldestPendingAt;
+
+    // Serializes flushes (scheduler, size threshold, shutdown)
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "progression-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer flushTimer;
+    private final Timer flushLagTimer;
+    private final Counter flushedPlayersCounter;
+    private final Counter flushFailureCounter;
+
+    public ProgressionWriteBehindService(PlayerProgressionRepository repository,
+                                         WriteBehindProperties properties,
+                                         ObjectMapper objectMapper,
+                                         MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.journal = new ProgressionJournal(Path.of(properties.getJournalDirectory()), objectMapper,
+                properties.isFsync());
+
+        this.flushTimer = Timer.builder("game.progression.flush")
+                .description("Time to write one batch of progression changes")
+                .register(meterRegistry);
+        this.flushLagTimer = Timer.builder("game.progression.flush.lag")
+                .description("Age of the oldest change in a batch when the batch was committed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushedPlayersCounter = Counter.builder("game.progression.flushed.players")
+                .description("Player rows written by the write-behind buffer")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("game.progression.flush.failures")
+                .description("Failed write-behind flushes (retried on the next run)")
+                .register(meterRegistry);
+        Gauge.builder("game.progression.pending.players", this, ProgressionWriteBehindService::getPendingPlayerCount)
+                .description("Players with progression changes not yet written to PostgreSQL")
+                .register(meterRegistry);
+        Gauge.builder("game.progression.pending.age", this, service -> service.getPendingAge().toMillis() / 1000.0)
+                .description("Age of the oldest progression change not yet written to PostgreSQL")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replay whatever the journal still holds from the previous run, then open
+     * a fresh segment and try to write the replayed state straight away.
+     */
+    @PostConstruct
+    public void recover() {
+        journal.deleteEmptySegments();
+        List<ProgressionChange> changes = journal.replay();
+        long maxSequence = journal.existingSegments().stream()
+                .mapToLong(ProgressionJournal::firstSequence)
+                .max()
+                .orElse(0);
+
+        lock.lock();
+        try {
+            for (ProgressionChange change : changes) {
+                applyLocked(change);
+                maxSequence = Math.max(maxSequence, change.sequence());
+            }
+            nextSequence = maxSequence + 1;
+            journal.rotate(nextSequence);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!changes.isEmpty()) {
+            log.info("Replayed {} progression changes for {} players from the journal",
+                    changes.size(), getPendingPlayerCount());
+            flush();
+        }
+    }
+
+    public void recordStageCleared(UUID playerId, int campaignStage) {
+        record(sequence -> ProgressionChange.stageCleared(sequence, playerId, campaignStage));
+    }
+
+    public void recordIdleCollected(UUID playerId, int playerLevel, long experience, long gold, Instant collectedAt) {
+        record(sequence -> ProgressionChange.idleCollected(sequence, playerId, playerLevel, experience, gold,
+                collectedAt));
+    }
+
+    public void recordHeroLeveled(UUID playerId, UUID heroId, int heroTemplateId, int heroLevel) {
+        record(sequence -> ProgressionChange.heroLeveled(sequence, playerId, heroId, heroTemplateId, heroLevel));
+    }
+
+    public int getPendingPlayerCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getPendingAge() {
+        Instant oldest = oldestPendingAt;
+        return oldest != null ? Duration.between(oldest, Instant.now()) : Duration.ZERO;
+    }
+
+    /**
+     * Journal the change, then coalesce it into the player's pending state.
+     * If the journal append fails the change is rejected, since it could not
+     * be made durable.
+     */
+    private void record(LongFunction<ProgressionChange> changeFactory) {
+        int pendingPlayers;
+        lock.lock();
+        try {
+            ProgressionChange change = changeFactory.apply(nextSequence);
+            journal.append(change);
+            nextSequence++;
+            applyLocked(change);
+            pendingPlayers = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        if (pendingPlayers >= properties.getMaxPendingPlayers()) {
+            requestFlush();
+        }
+    }
+
+    private void applyLocked(ProgressionChange change) {
+        pending.computeIfAbsent(change.playerId(), PendingPlayerProgress::new).apply(change);
+        if (oldestPendingAt == null) {
+            oldestPendingAt = change.recordedAt();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${game.progression.write-behind.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Swap out the pending changes and write them (one transaction per shard).
+     * The journal is rotated at the same moment, so on success every segment
+     * before the new one is fully committed and can be deleted. On failure the
+     * batch is merged back under any newer changes and retried next time.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<UUID, PendingPlayerProgress> batch;
+            Instant batchOldest;
+            long flushedBefore;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                journal.rotate(nextSequence);
+                flushedBefore = nextSequence;
+                batch = pending;
+                batchOldest = oldestPendingAt;
+                pending = new HashMap<>();
+                oldestPendingAt = null;
+            } finally {
+                lock.unlock();
+            }
+
+            List<PendingPlayerProgress> ordered = new ArrayList<>(batch.values());
+            ordered.sort(Comparator.comparing(PendingPlayerProgress::getPlayerId));
+            List<PlayerRow> players = new ArrayList<>(ordered.size());
+            List<HeroRow> heroes = new ArrayList<>();
+            for (PendingPlayerProgress progress : ordered) {
+                players.add(new PlayerRow(progress.getPlayerId(), progress.getCampaignStage(),
+                        progress.getPlayerLevel(), progress.getExperience(), progress.getGold(),
+                        progress.getIdleCollectedAt()));
+                for (PendingPlayerProgress.PendingHero hero : progress.getHeroes()) {
+                    heroes.add(new HeroRow(hero.heroId(), progress.getPlayerId(), hero.templateId(), hero.level()));
+                }
+            }
+
+            try {
+                flushTimer.record(() -> repository.upsertAll(players, heroes));
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                restore(batch, batchOldest);
+                log.warn("Progression flush of {} players failed, will retry: {}", batch.size(), e.getMessage());
+                return;
+            }
+
+            flushedPlayersCounter.increment(players.size());
+            if (batchOldest != null) {
+                flushLagTimer.record(Duration.between(batchOldest, Instant.now()));
+            }
+            journal.deleteSegmentsBefore(flushedBefore);
+            log.debug("Flushed progression of {} players ({} heroes)", players.size(), heroes.size());
+        }
+    }
+
+    private void restore(Map<UUID, PendingPlayerProgress> batch, Instant batchOldest) {
+        lock.lock();
+        try {
+            for (PendingPlayerProgress older : batch.values()) {
+                PendingPlayerProgress newer = pending.get(older.getPlayerId());
+                if (newer == null) {
+                    pending.put(older.getPlayerId(), older);
+                } else {
+                    newer.mergeOlder(older);
+                }
+            }
+            if (batchOldest != null) {
+                oldestPendingAt = batchOldest;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+        lock.lock();
+        try {
+            journal.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.thegame.game.service.sharding;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Immutable consistent hash ring mapping player ids to shard ids.
+ * Each shard owns virtualNodes points on a 64-bit ring; a key belongs to the
+ * first point at or after its hash. Adding or removing a shard therefore only
+ * moves about 1/N of the keys. Points are kept in a sorted primitive array,
+ * so a lookup is one hash plus a binary search.
+ */
+public final class ConsistentHashRing {
+
+    private final SortedSet<Integer> shardIds;
+    private final int virtualNodes;
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(Collection<Integer> shardIds, int virtualNodes) {
+        if (shardIds.isEmpty()) {
+            throw new IllegalArgumentException("A hash ring needs at least one shard");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be at least 1");
+        }
+        this.shardIds = new TreeSet<>(shardIds);
+        this.virtualNodes = virtualNodes;
+
+        int size = this.shardIds.size() * virtualNodes;
+        long[][] entries = new long[size][];
+        int i = 0;
+        for (int shardId : this.shardIds) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                entries[i++] = new long[]{mix(((long) shardId << 32) | replica), shardId};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int j = 0; j < size; j++) {
+            points[j] = entries[j][0];
+            owners[j] = (int) entries[j][1];
+        }
+    }
+
+    /**
+     * Shard owning the given player id.
+     */
+    public int shardFor(UUID playerId) {
+        long hash = hash(playerId);
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == points.length) {
+                index = 0;
+            }
+        }
+        return owners[index];
+    }
+
+    public List<Integer> getShardIds() {
+        return List.copyOf(shardIds);
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    static long hash(UUID playerId) {
+        return mix(playerId.getMostSignificantBits()) ^ mix(playerId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,194 @@
+package com.thegame.game.service.sharding;
+
+import com.thegame.game.config.ShardingProperties;
+import com.thegame.game.repository.ShardMigrationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Online resharding tool: moves players to the owners of a new shard ring
+ * while the game keeps serving them from the current ring.
+ * <ol>
+ *   <li>Copy: the target ring is published to the router, so every routed write
+ *   of a moved player is also copied to its new owner; meanwhile each current
+ *   shard is scanned in id order and moved players are copied in batches.</li>
+ *   <li>Commit: the target ring is persisted and becomes current.</li>
+ *   <li>Cleanup: every shard deletes the players it no longer owns.</li>
+ * </ol>
+ * Routing state lives in this instance, so run a single game-service instance
+ * while resharding.
+ */
+@Service
+public class ReshardingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReshardingService.class);
+
+    private final ShardRouter router;
+    private final ShardDataSourceRegistry shards;
+    private final ShardMigrationRepository migrationRepository;
+    private final int batchSize;
+    private final int virtualNodes;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "resharding");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong copied = new AtomicLong();
+    private final AtomicLong deleted = new AtomicLong();
+    private volatile ReshardingStatus status = ReshardingStatus.idle();
+
+    public ReshardingService(ShardRouter router,
+                             ShardDataSourceRegistry shards,
+                             ShardMigrationRepository migrationRepository,
+                             ShardingProperties properties) {
+        this.router = router;
+        this.shards = shards;
+        this.migrationRepository = migrationRepository;
+        this.batchSize = properties.getReshardBatchSize();
+        this.virtualNodes = properties.getVirtualNodes();
+    }
+
+    /**
+     * Start moving player data onto the given shards. Returns immediately;
+     * poll {@link #getStatus()} for progress.
+     */
+    public synchronized ReshardingStatus start(List<Integer> targetShardIds) {
+        if (!router.isEnabled()) {
+            throw new IllegalStateException("Sharding is disabled");
+        }
+        if (status.isRunning()) {
+            throw new IllegalStateException("A resharding is already in progress");
+        }
+        if (targetShardIds == null || targetShardIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one target shard is required");
+        }
+        for (int shardId : targetShardIds) {
+            if (!shards.hasShard(shardId)) {
+                throw new IllegalArgumentException("Unknown shard: " + shardId);
+            }
+        }
+
+        ConsistentHashRing current = router.getRing();
+        ConsistentHashRing target = new ConsistentHashRing(targetShardIds, virtualNodes);
+        boolean unchanged = current.getShardIds().equals(target.getShardIds());
+        if (!unchanged) {
+            router.beginResharding(target);
+        }
+
+        scanned.set(0);
+        copied.set(0);
+        deleted.set(0);
+        status = new ReshardingStatus(unchanged ? ReshardingStatus.Phase.CLEANING_UP : ReshardingStatus.Phase.COPYING,
+                current.getShardIds(), target.getShardIds(), 0, 0, 0, Instant.now(), null, null);
+        executor.execute(() -> run(current, target, unchanged));
+        return status;
+    }
+
+    public ReshardingStatus getStatus() {
+        ReshardingStatus current = status;
+        return new ReshardingStatus(current.phase(), current.fromShards(), current.toShards(),
+                scanned.get(), copied.get(), deleted.get(), current.startedAt(), current.finishedAt(),
+                current.error());
+    }
+
+    private void run(ConsistentHashRing current, ConsistentHashRing target, boolean unchanged) {
+        boolean committed = unchanged;
+        try {
+            if (!unchanged) {
+                copyMovedPlayers(current, target);
+                router.commitResharding();
+                committed = true;
+                setPhase(ReshardingStatus.Phase.CLEANING_UP, null);
+            }
+            deleteUnownedPlayers(target);
+            setPhase(ReshardingStatus.Phase.COMPLETED, null);
+            log.info("Resharding to {} completed: {} players copied, {} rows cleaned up",
+                    target.getShardIds(), copied.get(), deleted.get());
+        } catch (RuntimeException e) {
+            if (!committed) {
+                router.abortResharding();
+            }
+            setPhase(ReshardingStatus.Phase.FAILED, e.getMessage());
+            log.error("Resharding to {} failed", target.getShardIds(), e);
+        }
+    }
+
+    /**
+     * Scan every shard of the current ring and copy the players whose owner changes.
+     */
+    private void copyMovedPlayers(ConsistentHashRing current, ConsistentHashRing target) {
+        for (int sourceShard : current.getShardIds()) {
+            UUID after = null;
+            List<UUID> page;
+            do {
+                page = migrationRepository.findPlayerIdsAfter(sourceShard, after, batchSize);
+                Map<Integer, List<UUID>> moved = new TreeMap<>();
+                for (UUID playerId : page) {
+                    // Rows a shard holds for players it does not own are leftovers, not the source of truth
+                    if (current.shardFor(playerId) != sourceShard) {
+                        continue;
+                    }
+                    int targetShard = target.shardFor(playerId);
+                    if (targetShard != sourceShard) {
+                        moved.computeIfAbsent(targetShard, shard -> new ArrayList<>()).add(playerId);
+                    }
+                }
+                for (Map.Entry<Integer, List<UUID>> entry : moved.entrySet()) {
+                    copied.addAndGet(migrationRepository.copyPlayers(sourceShard, entry.getKey(), entry.getValue()));
+                }
+                scanned.addAndGet(page.size());
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1);
+                }
+            } while (page.size() == batchSize);
+        }
+    }
+
+    /**
+     * Delete, on every configured shard, the players the ring assigns elsewhere.
+     */
+    private void deleteUnownedPlayers(ConsistentHashRing ring) {
+        for (int shardId : shards.getShardIds()) {
+            UUID after = null;
+            List<UUID> page;
+            do {
+                page = migrationRepository.findPlayerIdsAfter(shardId, after, batchSize);
+                List<UUID> unowned = new ArrayList<>();
+                for (UUID playerId : page) {
+                    if (ring.shardFor(playerId) != shardId) {
+                        unowned.add(playerId);
+                    }
+                }
+                deleted.addAndGet(migrationRepository.deletePlayers(shardId, unowned));
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1);
+                }
+            } while (page.size() == batchSize);
+        }
+    }
+
+    private synchronized void setPhase(ReshardingStatus.Phase phase, String error) {
+        boolean finished = phase == ReshardingStatus.Phase.COMPLETED || phase == ReshardingStatus.Phase.FAILED;
+        status = new ReshardingStatus(phase, status.fromShards(), status.toShards(), 0, 0, 0,
+                status.startedAt(), finished ? Instant.now() : null, error);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
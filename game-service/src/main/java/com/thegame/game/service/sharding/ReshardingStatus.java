@@ -0,0 +1,35 @@
+package com.thegame.game.service.sharding;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress of the last (or running) resharding, as reported to operators.
+ */
+public record ReshardingStatus(
+        Phase phase,
+        List<Integer> fromShards,
+        List<Integer> toShards,
+        long playersScanned,
+        long playersCopied,
+        long playersDeleted,
+        Instant startedAt,
+        Instant finishedAt,
+        String error) {
+
+    public enum Phase {
+        IDLE,
+        COPYING,
+        CLEANING_UP,
+        COMPLETED,
+        FAILED
+    }
+
+    static ReshardingStatus idle() {
+        return new ReshardingStatus(Phase.IDLE, List.of(), List.of(), 0, 0, 0, null, null, null);
+    }
+
+    public boolean isRunning() {
+        return phase == Phase.COPYING || phase == Phase.CLEANING_UP;
+    }
+}
@@ -0,0 +1,162 @@
+package com.thegame.game.service.sharding;
+
+import com.thegame.game.config.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Connection pools, JDBC templates and transaction templates for every
+ * configured shard, plus the scatter-gather helper for cross-shard queries.
+ * The per-player schema is applied to each shard when the registry starts.
+ */
+@Component
+public class ShardDataSourceRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardDataSourceRegistry.class);
+
+    /** Shard id used when sharding is disabled. */
+    public static final int DEFAULT_SHARD = 0;
+
+    private final Map<Integer, DataSource> dataSources = new LinkedHashMap<>();
+    private final Map<Integer, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+    private final Map<Integer, TransactionTemplate> transactionTemplates = new LinkedHashMap<>();
+    private final List<HikariDataSource> ownedPools = new ArrayList<>();
+    private final ExecutorService scatterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long scatterTimeoutMs;
+
+    public ShardDataSourceRegistry(DataSource primaryDataSource, ShardingProperties properties) {
+        this.scatterTimeoutMs = properties.getScatterTimeoutMs();
+
+        if (!properties.isEnabled()) {
+            register(DEFAULT_SHARD, primaryDataSource);
+        } else {
+            if (properties.getShards().isEmpty()) {
+                throw new IllegalStateException("game.sharding.enabled is set but no game.sharding.shards are configured");
+            }
+            for (ShardingProperties.Shard shard : properties.getShards()) {
+                if (dataSources.containsKey(shard.getId())) {
+                    throw new IllegalStateException("Duplicate shard id: " + shard.getId());
+                }
+                register(shard.getId(), shard.getUrl() == null || shard.getUrl().isBlank()
+                        ? primaryDataSource
+                        : createPool(shard));
+            }
+        }
+
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource("db/shard-schema.sql"));
+        dataSources.forEach((shardId, dataSource) -> {
+            DatabasePopulatorUtils.execute(schema, dataSource);
+            log.info("Shard {} ready", shardId);
+        });
+    }
+
+    public List<Integer> getShardIds() {
+        return List.copyOf(dataSources.keySet());
+    }
+
+    public boolean hasShard(int shardId) {
+        return dataSources.containsKey(shardId);
+    }
+
+    public JdbcTemplate jdbc(int shardId) {
+        JdbcTemplate jdbcTemplate = jdbcTemplates.get(shardId);
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shardId);
+        }
+        return jdbcTemplate;
+    }
+
+    public TransactionTemplate transaction(int shardId) {
+        TransactionTemplate transactionTemplate = transactionTemplates.get(shardId);
+        if (transactionTemplate == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shardId);
+        }
+        return transactionTemplate;
+    }
+
+    /**
+     * Run the query on every given shard in parallel and collect the results by shard id.
+     * Fails if any shard fails or does not answer within the scatter timeout.
+     */
+    public <T> Map<Integer, T> scatter(Iterable<Integer> shardIds, Function<JdbcTemplate, T> query) {
+        return scatter(shardIds, (shardId, jdbcTemplate) -> query.apply(jdbcTemplate));
+    }
+
+    /**
+     * Same as {@link #scatter(Iterable, Function)}, for queries that need to know which shard they run on.
+     */
+    public <T> Map<Integer, T> scatter(Iterable<Integer> shardIds, BiFunction<Integer, JdbcTemplate, T> query) {
+        Map<Integer, Future<T>> futures = new LinkedHashMap<>();
+        for (int shardId : shardIds) {
+            JdbcTemplate jdbcTemplate = jdbc(shardId);
+            futures.put(shardId, scatterExecutor.submit(() -> query.apply(shardId, jdbcTemplate)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scatterTimeoutMs);
+        Map<Integer, T> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Integer, Future<T>> entry : futures.entrySet()) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.put(entry.getKey(), entry.getValue().get(remaining, TimeUnit.NANOSECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during scatter-gather query", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scatter-gather query failed on a shard: " + e.getCause().getMessage(),
+                    e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Scatter-gather query timed out after " + scatterTimeoutMs + " ms", e);
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
+    @PreDestroy
+    public void close() {
+        scatterExecutor.shutdownNow();
+        ownedPools.forEach(HikariDataSource::close);
+    }
+
+    private void register(int shardId, DataSource dataSource) {
+        dataSources.put(shardId, dataSource);
+        jdbcTemplates.put(shardId, new JdbcTemplate(dataSource));
+        transactionTemplates.put(shardId, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    private DataSource createPool(ShardingProperties.Shard shard) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("game-shard-" + shard.getId());
+        pool.setJdbcUrl(shard.getUrl());
+        pool.setUsername(shard.getUsername());
+        pool.setPassword(shard.getPassword());
+        pool.setMaximumPoolSize(shard.getMaxPoolSize());
+        ownedPools.add(pool);
+        return pool;
+    }
+}
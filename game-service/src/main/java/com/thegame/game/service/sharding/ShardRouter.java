@@ -0,0 +1,162 @@
+package com.thegame.game.service.sharding;
+
+import com.thegame.game.config.ShardingProperties;
+import com.thegame.game.entity.ShardTopology;
+import com.thegame.game.repository.ShardTopologyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Routes player ids to shards with a consistent hash ring.
+ * While a resharding is in progress a second (target) ring is kept next to
+ * the current one: reads and writes still go to the current owner, and
+ * writers copy moved players to their target owner. Writers hold the routing
+ * lock (shared) for the whole route-write-copy sequence, so committing the
+ * target ring (exclusive) waits until no write routed by the old ring is in flight.
+ */
+@Component
+public class ShardRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+
+    private final ShardTopologyRepository topologyRepository;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock routingLock = new ReentrantReadWriteLock();
+
+    private volatile ConsistentHashRing ring;
+    private volatile ConsistentHashRing targetRing;
+
+    public ShardRouter(ShardingProperties properties,
+                       ShardDataSourceRegistry shards,
+                       ShardTopologyRepository topologyRepository) {
+        this.topologyRepository = topologyRepository;
+        this.enabled = properties.isEnabled();
+
+        if (!enabled) {
+            this.ring = new ConsistentHashRing(List.of(ShardDataSourceRegistry.DEFAULT_SHARD), 1);
+            return;
+        }
+
+        Optional<ShardTopology> persisted = topologyRepository.findById(ShardTopology.SINGLETON_ID);
+        List<Integer> shardIds;
+        int virtualNodes;
+        if (persisted.isPresent()) {
+            shardIds = parseShardIds(persisted.get().getShardIds());
+            virtualNodes = persisted.get().getVirtualNodes();
+            log.info("Using persisted shard topology {} ({} virtual nodes)", shardIds, virtualNodes);
+        } else {
+            shardIds = properties.getActiveShards().isEmpty() ? shards.getShardIds() : properties.getActiveShards();
+            virtualNodes = properties.getVirtualNodes();
+            log.info("No persisted shard topology, using configured shards {}", shardIds);
+        }
+        for (int shardId : shardIds) {
+            if (!shards.hasShard(shardId)) {
+                throw new IllegalStateException("Shard " + shardId + " is on the ring but not configured");
+            }
+        }
+        this.ring = new ConsistentHashRing(shardIds, virtualNodes);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Shard currently owning the player's data.
+     */
+    public int shardFor(UUID playerId) {
+        return ring.shardFor(playerId);
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    /**
+     * Ring being migrated to, if a resharding is in progress.
+     */
+    public Optional<ConsistentHashRing> getTargetRing() {
+        return Optional.ofNullable(targetRing);
+    }
+
+    /**
+     * Run a routed write while holding the routing lock (shared), so the ring
+     * cannot be switched between routing the write and finishing it.
+     */
+    public <T> T withRoutingLock(Supplier<T> write) {
+        routingLock.readLock().lock();
+        try {
+            return write.get();
+        } finally {
+            routingLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start routing copies of moved players to the target ring.
+     */
+    public synchronized void beginResharding(ConsistentHashRing target) {
+        if (targetRing != null) {
+            throw new IllegalStateException("A resharding is already in progress");
+        }
+        routingLock.writeLock().lock();
+        try {
+            targetRing = target;
+        } finally {
+            routingLock.writeLock().unlock();
+        }
+        log.info("Resharding started: {} -> {}", ring.getShardIds(), target.getShardIds());
+    }
+
+    /**
+     * Persist the target ring and make it current. Waits for in-flight routed writes.
+     */
+    public synchronized void commitResharding() {
+        if (targetRing == null) {
+            throw new IllegalStateException("No resharding in progress");
+        }
+        routingLock.writeLock().lock();
+        try {
+            ConsistentHashRing target = targetRing;
+            topologyRepository.save(new ShardTopology(ShardTopology.SINGLETON_ID,
+                    target.getShardIds().stream().map(String::valueOf).collect(Collectors.joining(",")),
+                    target.getVirtualNodes(), LocalDateTime.now()));
+            ring = target;
+            targetRing = null;
+        } finally {
+            routingLock.writeLock().unlock();
+        }
+        log.info("Resharding committed, shards on ring: {}", ring.getShardIds());
+    }
+
+    /**
+     * Drop the target ring; players keep being served by the current ring.
+     */
+    public synchronized void abortResharding() {
+        routingLock.writeLock().lock();
+        try {
+            targetRing = null;
+        } finally {
+            routingLock.writeLock().unlock();
+        }
+        log.warn("Resharding aborted, shards on ring: {}", ring.getShardIds());
+    }
+
+    private static List<Integer> parseShardIds(String shardIds) {
+        return Arrays.stream(shardIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
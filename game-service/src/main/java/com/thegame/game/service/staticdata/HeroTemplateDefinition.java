@@ -0,0 +1,30 @@
+package com.thegame.game.service.staticdata;
+
+import com.thegame.game.entity.HeroRarity;
+import com.thegame.game.entity.HeroTemplate;
+
+/**
+ * Source-neutral description of a hero template, used while building a snapshot.
+ * Both the database loader and the file loader produce these.
+ */
+public record HeroTemplateDefinition(
+        int id,
+        String name,
+        HeroRarity rarity,
+        int baseAttack,
+        int baseDefense,
+        int baseHealth,
+        int baseSpeed) {
+
+    public static HeroTemplateDefinition from(HeroTemplate template) {
+        return new HeroTemplateDefinition(
+                template.getId(),
+                template.getName(),
+                template.getRarity(),
+                template.getBaseAttack(),
+                template.getBaseDefense(),
+                template.getBaseHealth(),
+                template.getBaseSpeed()
+        );
+    }
+}
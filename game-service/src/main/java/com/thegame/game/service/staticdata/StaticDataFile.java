@@ -0,0 +1,9 @@
+package com.thegame.game.service.staticdata;
+
+import java.util.List;
+
+/**
+ * JSON layout of a versioned static data file.
+ */
+public record StaticDataFile(String version, List<HeroTemplateDefinition> heroTemplates) {
+}
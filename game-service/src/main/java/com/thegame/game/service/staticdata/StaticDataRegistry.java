@@ -0,0 +1,155 @@
+package com.thegame.game.service.staticdata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thegame.game.config.StaticDataProperties;
+import com.thegame.game.repository.HeroTemplateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Startup-loaded registry of static game data (hero templates, ...).
+ * Readers call {@link #current()} once per operation and read from the returned
+ * immutable snapshot without any locking. Reloads build a complete new snapshot
+ * off to the side and publish it with a single atomic reference swap, so readers
+ * never pause and never observe a half-loaded catalog.
+ */
+@Service
+public class StaticDataRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticDataRegistry.class);
+
+    private final AtomicReference<StaticDataSnapshot> current = new AtomicReference<>(StaticDataSnapshot.empty());
+    private final Object reloadLock = new Object();
+
+    private final HeroTemplateRepository heroTemplateRepository;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final StaticDataProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public StaticDataRegistry(HeroTemplateRepository heroTemplateRepository,
+                              ResourceLoader resourceLoader,
+                              ObjectMapper objectMapper,
+                              StaticDataProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.heroTemplateRepository = heroTemplateRepository;
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("game.staticdata.hero.templates", current, ref -> ref.get().getHeroTemplateCount())
+                .description("Hero templates in the active static data snapshot")
+                .register(meterRegistry);
+        Gauge.builder("game.staticdata.footprint", current, ref -> ref.get().estimatedFootprintBytes())
+                .description("Estimated heap footprint of the active static data snapshot")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the configured source before the service starts taking traffic.
+     * A failure here fails startup - the game cannot run without its catalog.
+     */
+    @PostConstruct
+    public void loadOnStartup() {
+        reload(properties.getSource());
+    }
+
+    /**
+     * The active snapshot. Callers should keep the reference for the duration of
+     * one operation (e.g. one battle) so all reads come from the same version.
+     */
+    public StaticDataSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * Reload from the configured default source.
+     */
+    public StaticDataSnapshot reload() {
+        return reload(properties.getSource());
+    }
+
+    /**
+     * Build a new snapshot from the given source and swap it in.
+     * Reloads are serialized with each other but never block readers. If the
+     * content is identical to the active snapshot the swap is skipped.
+     */
+    public StaticDataSnapshot reload(StaticDataSource source) {
+        synchronized (reloadLock) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "failure";
+            try {
+                StaticDataSnapshot loaded = switch (source) {
+                    case DATABASE -> loadFromDatabase();
+                    case FILE -> loadFromFile();
+                };
+
+                StaticDataSnapshot previous = current.get();
+                if (previous.getVersion().equals(loaded.getVersion()) && previous.hasSameContent(loaded)) {
+                    outcome = "unchanged";
+                    log.debug("Static data version {} from {} unchanged, keeping active snapshot",
+                            loaded.getVersion(), source);
+                    return previous;
+                }
+
+                current.set(loaded);
+                outcome = "swapped";
+                log.info("Static data version {} loaded from {}: {} hero templates, ~{} bytes (previous version {})",
+                        loaded.getVersion(), source, loaded.getHeroTemplateCount(),
+                        loaded.estimatedFootprintBytes(), previous.getVersion());
+                return loaded;
+            } finally {
+                sample.stop(Timer.builder("game.staticdata.load")
+                        .description("Time to load and publish a static data snapshot")
+                        .tag("source", source.name().toLowerCase())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+                Counter.builder("game.staticdata.reloads")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    private StaticDataSnapshot loadFromDatabase() {
+        List<HeroTemplateDefinition> heroTemplates = heroTemplateRepository.findAll().stream()
+                .map(HeroTemplateDefinition::from)
+                .toList();
+        StaticDataSnapshot snapshot = StaticDataSnapshot.build("db", StaticDataSource.DATABASE,
+                heroTemplates, properties.getMaxTemplateId());
+        // Rows carry no version of their own, so derive one from the content
+        return snapshot.withVersion("db-" + Long.toHexString(snapshot.getContentHash()));
+    }
+
+    private StaticDataSnapshot loadFromFile() {
+        Resource resource = resourceLoader.getResource(properties.getFileLocation());
+        try (InputStream in = resource.getInputStream()) {
+            StaticDataFile file = objectMapper.readValue(in, StaticDataFile.class);
+            if (file.version() == null || file.version().isBlank()) {
+                throw new IllegalArgumentException("Static data file has no version: " + properties.getFileLocation());
+            }
+            List<HeroTemplateDefinition> heroTemplates = file.heroTemplates() != null ? file.heroTemplates() : List.of();
+            return StaticDataSnapshot.build(file.version(), StaticDataSource.FILE,
+                    heroTemplates, properties.getMaxTemplateId());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read static data file: " + properties.getFileLocation(), e);
+        }
+    }
+}
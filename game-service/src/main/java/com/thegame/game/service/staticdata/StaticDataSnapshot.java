@@ -0,0 +1,238 @@
+package com.thegame.game.service.staticdata;
+
+import com.thegame.game.entity.HeroRarity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable, array-backed view of the static game data.
+ * Hero template attributes are stored in parallel primitive arrays indexed
+ * directly by template id, so a lookup is a bounds check plus an array read.
+ * A snapshot is never modified after construction; reloads build a new one
+ * and swap it in through {@link StaticDataRegistry}.
+ */
+public final class StaticDataSnapshot {
+
+    private static final HeroRarity[] RARITIES = HeroRarity.values();
+
+    private final String version;
+    private final StaticDataSource source;
+    private final Instant loadedAt;
+    private final long contentHash;
+    private final int heroTemplateCount;
+
+    // Parallel arrays indexed by hero template id; heroNames[id] == null means "no template"
+    private final String[] heroNames;
+    private final byte[] heroRarities;
+    private final int[] heroBaseAttack;
+    private final int[] heroBaseDefense;
+    private final int[] heroBaseHealth;
+    private final int[] heroBaseSpeed;
+
+    private StaticDataSnapshot(String version, StaticDataSource source, Instant loadedAt, long contentHash,
+                               int heroTemplateCount, String[] heroNames, byte[] heroRarities,
+                               int[] heroBaseAttack, int[] heroBaseDefense, int[] heroBaseHealth,
+                               int[] heroBaseSpeed) {
+        this.version = version;
+        this.source = source;
+        this.loadedAt = loadedAt;
+        this.contentHash = contentHash;
+        this.heroTemplateCount = heroTemplateCount;
+        this.heroNames = heroNames;
+        this.heroRarities = heroRarities;
+        this.heroBaseAttack = heroBaseAttack;
+        this.heroBaseDefense = heroBaseDefense;
+        this.heroBaseHealth = heroBaseHealth;
+        this.heroBaseSpeed = heroBaseSpeed;
+    }
+
+    /**
+     * Empty snapshot used before the first load completes.
+     */
+    public static StaticDataSnapshot empty() {
+        return new StaticDataSnapshot("none", StaticDataSource.FILE, Instant.EPOCH, 0L, 0,
+                new String[0], new byte[0], new int[0], new int[0], new int[0], new int[0]);
+    }
+
+    /**
+     * Build a snapshot from template definitions.
+     * Ids must be unique, non-negative and not above maxTemplateId, since they
+     * determine the size of the backing arrays.
+     */
+    public static StaticDataSnapshot build(String version, StaticDataSource source,
+                                           Collection<HeroTemplateDefinition> heroTemplates,
+                                           int maxTemplateId) {
+        int maxId = -1;
+        for (HeroTemplateDefinition template : heroTemplates) {
+            if (template.id() < 0 || template.id() > maxTemplateId) {
+                throw new IllegalArgumentException("Hero template id out of range [0, " + maxTemplateId + "]: "
+                        + template.id());
+            }
+            if (template.name() == null || template.rarity() == null) {
+                throw new IllegalArgumentException("Hero template " + template.id() + " is missing name or rarity");
+            }
+            maxId = Math.max(maxId, template.id());
+        }
+
+        int length = maxId + 1;
+        String[] names = new String[length];
+        byte[] rarities = new byte[length];
+        int[] attack = new int[length];
+        int[] defense = new int[length];
+        int[] health = new int[length];
+        int[] speed = new int[length];
+
+        for (HeroTemplateDefinition template : heroTemplates) {
+            int id = template.id();
+            if (names[id] != null) {
+                throw new IllegalArgumentException("Duplicate hero template id: " + id);
+            }
+            names[id] = template.name();
+            rarities[id] = (byte) template.rarity().ordinal();
+            attack[id] = template.baseAttack();
+            defense[id] = template.baseDefense();
+            health[id] = template.baseHealth();
+            speed[id] = template.baseSpeed();
+        }
+
+        long hash = contentHash(names, rarities, attack, defense, health, speed);
+        return new StaticDataSnapshot(version, source, Instant.now(), hash, heroTemplates.size(),
+                names, rarities, attack, defense, health, speed);
+    }
+
+    /**
+     * Same snapshot contents under a different version label (arrays are shared, not copied).
+     */
+    StaticDataSnapshot withVersion(String newVersion) {
+        return new StaticDataSnapshot(newVersion, source, loadedAt, contentHash, heroTemplateCount,
+                heroNames, heroRarities, heroBaseAttack, heroBaseDefense, heroBaseHealth, heroBaseSpeed);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public StaticDataSource getSource() {
+        return source;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * CRC32 over the catalog contents; only a label (db versions are derived
+     * from it), use {@link #hasSameContent} to compare snapshots.
+     */
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Whether both snapshots hold exactly the same templates (compares the backing arrays).
+     */
+    public boolean hasSameContent(StaticDataSnapshot other) {
+        return Arrays.equals(heroNames, other.heroNames)
+                && Arrays.equals(heroRarities, other.heroRarities)
+                && Arrays.equals(heroBaseAttack, other.heroBaseAttack)
+                && Arrays.equals(heroBaseDefense, other.heroBaseDefense)
+                && Arrays.equals(heroBaseHealth, other.heroBaseHealth)
+                && Arrays.equals(heroBaseSpeed, other.heroBaseSpeed);
+    }
+
+    public int getHeroTemplateCount() {
+        return heroTemplateCount;
+    }
+
+    public boolean hasHeroTemplate(int id) {
+        return id >= 0 && id < heroNames.length && heroNames[id] != null;
+    }
+
+    public String heroName(int id) {
+        checkHeroTemplate(id);
+        return heroNames[id];
+    }
+
+    public HeroRarity heroRarity(int id) {
+        checkHeroTemplate(id);
+        return RARITIES[heroRarities[id]];
+    }
+
+    public int heroBaseAttack(int id) {
+        checkHeroTemplate(id);
+        return heroBaseAttack[id];
+    }
+
+    public int heroBaseDefense(int id) {
+        checkHeroTemplate(id);
+        return heroBaseDefense[id];
+    }
+
+    public int heroBaseHealth(int id) {
+        checkHeroTemplate(id);
+        return heroBaseHealth[id];
+    }
+
+    public int heroBaseSpeed(int id) {
+        checkHeroTemplate(id);
+        return heroBaseSpeed[id];
+    }
+
+    /**
+     * Approximate heap footprint of this snapshot in bytes
+     * (array headers + elements, assuming compressed oops and Latin-1 strings).
+     */
+    public long estimatedFootprintBytes() {
+        final long arrayHeader = 16;
+        final long stringOverhead = 24 + arrayHeader;
+        long length = heroNames.length;
+
+        long bytes = arrayHeader + length * 4;                 // heroNames references
+        for (String name : heroNames) {
+            if (name != null) {
+                bytes += stringOverhead + name.length();
+            }
+        }
+        bytes += arrayHeader + length;                         // heroRarities
+        bytes += 4 * (arrayHeader + length * Integer.BYTES);   // attack, defense, health, speed
+        return bytes;
+    }
+
+    private void checkHeroTemplate(int id) {
+        if (!hasHeroTemplate(id)) {
+            throw new IllegalArgumentException("Hero template not found with ID: " + id);
+        }
+    }
+
+    private static long contentHash(String[] names, byte[] rarities, int[]... stats) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == null) {
+                continue;
+            }
+            byte[] name = names[i].getBytes(StandardCharsets.UTF_8);
+            updateInt(crc, i);
+            updateInt(crc, name.length);
+            crc.update(name);
+            crc.update(rarities[i]);
+            for (int[] stat : stats) {
+                updateInt(crc, stat[i]);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * CRC32.update(int) only takes the low byte, so feed all four explicitly.
+     */
+    private static void updateInt(CRC32 crc, int value) {
+        crc.update(value >>> 24);
+        crc.update(value >>> 16);
+        crc.update(value >>> 8);
+        crc.update(value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.thegame.game.service.staticdata;
+
+/**
+ * Where a static data snapshot was loaded from.
+ */
+public enum StaticDataSource {
+    /** Rows of the catalog tables in game_db. */
+    DATABASE,
+    /** A versioned JSON file (classpath or filesystem). */
+    FILE
+}
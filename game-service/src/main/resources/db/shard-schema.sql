@@ -0,0 +1,28 @@
+-- Schema of per-player game data, applied to every shard on startup.
+-- Shards are plain PostgreSQL databases that Hibernate does not manage,
+-- so keep this file in sync with the Player and Hero classes.
+
+CREATE TABLE IF NOT EXISTS players (
+    id                   uuid         NOT NULL PRIMARY KEY,
+    campaign_stage       integer      NOT NULL,
+    level                integer      NOT NULL,
+    experience           bigint       NOT NULL,
+    gold                 bigint       NOT NULL,
+    last_idle_collect_at timestamp(6),
+    created_at           timestamp(6) NOT NULL,
+    updated_at           timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_player_campaign_stage ON players (campaign_stage);
+
+CREATE TABLE IF NOT EXISTS heroes (
+    id          uuid         NOT NULL PRIMARY KEY,
+    player_id   uuid         NOT NULL,
+    template_id integer      NOT NULL,
+    level       integer      NOT NULL,
+    stars       integer      NOT NULL,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_hero_player_id ON heroes (player_id);
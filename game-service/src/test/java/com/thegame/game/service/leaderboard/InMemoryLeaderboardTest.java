@@ -0,0 +1,113 @@
+package com.thegame.game.service.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryLeaderboardTest {
+
+    // Same order the leaderboard promises: score descending, then player id string descending
+    private static final Comparator<Map.Entry<UUID, Long>> REFERENCE_ORDER =
+            Comparator.<Map.Entry<UUID, Long>>comparingLong(Map.Entry::getValue).reversed()
+                    .thenComparing(e -> e.getKey().toString(), Comparator.reverseOrder());
+
+    @Test
+    void emptyBoard() {
+        InMemoryLeaderboard leaderboard = new InMemoryLeaderboard();
+
+        assertThat(leaderboard.size()).isZero();
+        assertThat(leaderboard.range(1, 10)).isEmpty();
+        assertThat(leaderboard.top(5)).isEmpty();
+        assertThat(leaderboard.entry(UUID.randomUUID())).isEmpty();
+        assertThat(leaderboard.score(UUID.randomUUID())).isEmpty();
+        assertThat(leaderboard.remove(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void tiedScoresOrderByDescendingPlayerId() {
+        InMemoryLeaderboard leaderboard = new InMemoryLeaderboard();
+        UUID low = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID mid = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        UUID high = UUID.fromString("ffffffff-0000-0000-0000-000000000000");
+        leaderboard.updateScore(mid, 100);
+        leaderboard.updateScore(low, 100);
+        leaderboard.updateScore(high, 100);
+
+        assertThat(leaderboard.range(1, 3)).containsExactly(
+                new LeaderboardEntry(high, 100, 1),
+                new LeaderboardEntry(mid, 100, 2),
+                new LeaderboardEntry(low, 100, 3));
+        assertThat(leaderboard.entry(low)).contains(new LeaderboardEntry(low, 100, 3));
+    }
+
+    @Test
+    void rangeBoundsAreClippedToTheBoard() {
+        InMemoryLeaderboard leaderboard = new InMemoryLeaderboard();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        leaderboard.updateScore(first, 20);
+        leaderboard.updateScore(second, 10);
+
+        assertThat(leaderboard.range(-5, 100)).extracting(LeaderboardEntry::playerId).containsExactly(first, second);
+        assertThat(leaderboard.range(0, 1)).extracting(LeaderboardEntry::playerId).containsExactly(first);
+        assertThat(leaderboard.range(2, 2)).extracting(LeaderboardEntry::playerId).containsExactly(second);
+        assertThat(leaderboard.range(3, 10)).isEmpty();
+        assertThat(leaderboard.range(2, 1)).isEmpty();
+        assertThat(leaderboard.top(0)).isEmpty();
+    }
+
+    @Test
+    void matchesSortedReferenceUnderRandomUpdatesAndRemovals() {
+        InMemoryLeaderboard leaderboard = new InMemoryLeaderboard();
+        Map<UUID, Long> reference = new HashMap<>();
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            players.add(UUID.randomUUID());
+        }
+        Random random = new Random(42);
+
+        for (int step = 0; step < 5_000; step++) {
+            UUID player = players.get(random.nextInt(players.size()));
+            if (random.nextInt(5) == 0) {
+                assertThat(leaderboard.remove(player)).isEqualTo(reference.remove(player) != null);
+            } else {
+                // Narrow score range so ties are frequent
+                long score = random.nextInt(50);
+                leaderboard.updateScore(player, score);
+                reference.put(player, score);
+            }
+
+            if (step % 250 == 0) {
+                assertMatches(leaderboard, reference);
+            }
+        }
+        assertMatches(leaderboard, reference);
+    }
+
+    private static void assertMatches(InMemoryLeaderboard leaderboard, Map<UUID, Long> reference) {
+        List<Map.Entry<UUID, Long>> sorted = new ArrayList<>(reference.entrySet());
+        sorted.sort(REFERENCE_ORDER);
+        List<LeaderboardEntry> expected = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            expected.add(new LeaderboardEntry(sorted.get(i).getKey(), sorted.get(i).getValue(), i + 1));
+        }
+
+        assertThat(leaderboard.size()).isEqualTo(expected.size());
+        assertThat(leaderboard.range(1, expected.size())).containsExactlyElementsOf(expected);
+        for (LeaderboardEntry entry : expected) {
+            assertThat(leaderboard.entry(entry.playerId())).contains(entry);
+            assertThat(leaderboard.score(entry.playerId())).hasValue(entry.score());
+        }
+        if (expected.size() > 20) {
+            assertThat(leaderboard.range(11, 20)).containsExactlyElementsOf(expected.subList(10, 20));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.thegame.game.service.progression;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thegame.game.config.WriteBehindProperties;
+import com.thegame.game.repository.PlayerProgressionRepository;
+import com.thegame.game.repository.PlayerProgressionRepository.HeroRow;
+import com.thegame.game.repository.PlayerProgressionRepository.PlayerRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressionWriteBehindServiceTest {
+
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID HERO = UUID.fromString("00000000-0000-0000-0000-0000000000aa");
+    private static final Instant COLLECTED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path journalDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void failedFlushIsRetriedWithNewestValuesAndLeavesNoFlushedSegments() {
+        StubRepository repository = new StubRepository(1);
+        ProgressionWriteBehindService service = newService(repository);
+        service.recover();
+
+        service.recordStageCleared(PLAYER, 3);
+        service.recordIdleCollected(PLAYER, 2, 100, 50, COLLECTED_AT);
+        service.recordHeroLeveled(PLAYER, HERO, 7, 2);
+        service.flush();
+
+        assertThat(repository.failuresLeft).isZero();
+        assertThat(repository.players).isEmpty();
+        assertThat(service.getPendingPlayerCount()).isEqualTo(1);
+        assertThat(nonEmptySegments()).hasSize(1);
+
+        // Newer than the failed batch, recorded before the retry
+        service.recordStageCleared(PLAYER, 4);
+        service.recordHeroLeveled(PLAYER, HERO, 7, 5);
+        assertThat(nonEmptySegments()).hasSize(2);
+        service.flush();
+
+        assertThat(repository.players).containsExactly(new PlayerRow(PLAYER, 4, 2, 100L, 50L, COLLECTED_AT));
+        assertThat(repository.heroes).containsExactly(new HeroRow(HERO, PLAYER, 7, 5));
+        assertThat(service.getPendingPlayerCount()).isZero();
+        assertThat(nonEmptySegments()).isEmpty();
+        service.shutdown();
+    }
+
+    @Test
+    void recoveryReplaysLeftoverSegmentsAndSkipsEmptyOnesAndTornLines() throws IOException {
+        ProgressionWriteBehindService crashed = newService(new StubRepository(Integer.MAX_VALUE));
+        crashed.recover();
+        crashed.recordStageCleared(PLAYER, 3);
+        crashed.recordHeroLeveled(PLAYER, HERO, 7, 2);
+        crashed.flush();
+        crashed.recordStageCleared(PLAYER, 6);
+        crashed.recordHeroLeveled(PLAYER, HERO, 7, 4);
+        crashed.shutdown();
+
+        // Leftovers of a crash: a segment that never got an entry and a half-written last line
+        Files.createFile(journalDirectory.resolve("progression-999.journal"));
+        List<Path> segments = nonEmptySegments();
+        assertThat(segments).hasSize(2);
+        Files.writeString(segments.get(1), "{\"sequence\":5,\"type\":\"STAGE_CL", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        StubRepository repository = new StubRepository(0);
+        ProgressionWriteBehindService recovered = newService(repository);
+        recovered.recover();
+
+        assertThat(repository.players).containsExactly(new PlayerRow(PLAYER, 6, null, null, null, null));
+        assertThat(repository.heroes).containsExactly(new HeroRow(HERO, PLAYER, 7, 4));
+        assertThat(nonEmptySegments()).isEmpty();
+        assertThat(journalDirectory.resolve("progression-999.journal")).doesNotExist();
+
+        // New changes continue after the replayed sequences and survive another restart
+        recovered.recordStageCleared(PLAYER, 7);
+        assertThat(nonEmptySegments()).singleElement()
+                .satisfies(segment -> assertThat(ProgressionJournal.firstSequence(segment)).isGreaterThan(4));
+        recovered.shutdown();
+        assertThat(repository.players).last().isEqualTo(new PlayerRow(PLAYER, 7, null, null, null, null));
+        assertThat(nonEmptySegments()).isEmpty();
+    }
+
+    @Test
+    void mergeOlderKeepsNewerFieldsAndFillsTheRest() {
+        UUID otherHero = UUID.randomUUID();
+        PendingPlayerProgress older = new PendingPlayerProgress(PLAYER);
+        older.apply(ProgressionChange.stageCleared(1, PLAYER, 3));
+        older.apply(ProgressionChange.idleCollected(2, PLAYER, 2, 100, 50, COLLECTED_AT));
+        older.apply(ProgressionChange.heroLeveled(3, PLAYER, HERO, 7, 2));
+        older.apply(ProgressionChange.heroLeveled(4, PLAYER, otherHero, 8, 9));
+        PendingPlayerProgress newer = new PendingPlayerProgress(PLAYER);
+        newer.apply(ProgressionChange.stageCleared(5, PLAYER, 4));
+        newer.apply(ProgressionChange.heroLeveled(6, PLAYER, HERO, 7, 5));
+
+        newer.mergeOlder(older);
+
+        assertThat(newer.getCampaignStage()).isEqualTo(4);
+        assertThat(newer.getPlayerLevel()).isEqualTo(2);
+        assertThat(newer.getExperience()).isEqualTo(100L);
+        assertThat(newer.getGold()).isEqualTo(50L);
+        assertThat(newer.getIdleCollectedAt()).isEqualTo(COLLECTED_AT);
+        assertThat(newer.getHeroes()).containsExactlyInAnyOrder(
+                new PendingPlayerProgress.PendingHero(HERO, 7, 5),
+                new PendingPlayerProgress.PendingHero(otherHero, 8, 9));
+        assertThat(newer.getLastSequence()).isEqualTo(6);
+        assertThat(newer.getFirstRecordedAt()).isEqualTo(older.getFirstRecordedAt());
+    }
+
+    private ProgressionWriteBehindService newService(PlayerProgressionRepository repository) {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setJournalDirectory(journalDirectory.toString());
+        return new ProgressionWriteBehindService(repository, properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    private List<Path> nonEmptySegments() {
+        return new ProgressionJournal(journalDirectory, objectMapper, false).existingSegments().stream()
+                .filter(segment -> {
+                    try {
+                        return Files.size(segment) > 0;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .toList();
+    }
+
+    /**
+     * Records written rows; the first calls (as many as given) fail like an unreachable shard.
+     */
+    private static class StubRepository extends PlayerProgressionRepository {
+
+        private final List<PlayerRow> players = new ArrayList<>();
+        private final List<HeroRow> heroes = new ArrayList<>();
+        private int failuresLeft;
+
+        StubRepository(int failures) {
+            super(null, null, null);
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public void upsertAll(List<PlayerRow> players, List<HeroRow> heroes) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("Shard unavailable");
+            }
+            this.players.addAll(players);
+            this.heroes.addAll(heroes);
+        }
+    }
+}